@@ -0,0 +1,49 @@
+package com.englishapp.api_server.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 음성 파일 내용 주소 (content address)
+ * SHA-256(정규화한 텍스트 + 음성 설정)의 16진수 문자열 - 같은 텍스트/같은 음성이면 같은 파일 하나를 공유
+ * 정규화: 유니코드 NFC, 앞뒤 공백 제거, 연속 공백을 한 칸으로 (대소문자는 발음이 달라질 수 있어 유지)
+ */
+public final class AudioContentKey {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 내용 주소로 저장된 파일 이름 ("{hash}.mp3") - 예전 "{id}.mp3" 파일은 해당 없음
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})\\.mp3$");
+
+    private AudioContentKey() {
+    }
+
+    public static String of(String text, String voiceKey) {
+
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC).trim()).replaceAll(" ");
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(voiceKey.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);  // 음성 설정과 텍스트 경계
+            digest.update(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    public static String fileName(String key) {
+        return key + ".mp3";
+    }
+
+    // 저장된 audioUrl에서 내용 주소 추출 (내용 주소 파일이 아니면 null)
+    public static String fromUrl(String audioUrl) {
+        Matcher matcher = FILE_NAME.matcher(audioUrl);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,339 @@
+package com.englishapp.api_server.batch;
+
+import com.englishapp.api_server.domain.AudibleContent;
+import com.englishapp.api_server.service.FileStorageService;
+import com.englishapp.api_server.service.GoogleTtsService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * TTS 음성 생성 파이프라인 (합성 -> 파일 저장 -> audioUrl 일괄 갱신)
+ * 0. 중복 제거: 대상을 내용 주소(AudioContentKey - 정규화 텍스트 + 음성 설정)로 묶어 같은 텍스트는 TTS 호출/파일 1번
+ *    합성 전에 knownUrls에 주소를 선점(putIfAbsent)하므로 동시에 도는 다른 실행(청크)과도 같은 텍스트는 한 번만 합성
+ *    이미 저장됐거나 다른 실행이 합성 중인 주소는 그 결과 URL을 기다렸다가 그대로 사용
+ * 1. 합성: TTS 호출을 동시에 최대 concurrency개 (permit을 얻어야 다음 항목 제출 -> 대상이 많아도 메모리에 쌓이지 않음)
+ * 2. 저장: 합성 결과를 크기 제한 큐로 받아 전용 스레드 하나가 FileStorageService로 저장
+ *         (저장이 느리면 큐가 차서 합성 스레드가 기다리고, 그만큼 permit도 늦게 반환됨)
+ * 3. 갱신: 저장된 URL을 묶인 모든 행에 대해 chunkSize개씩 모아 updater에 넘김 (updater가 청크 단위 트랜잭션으로 반영)
+ * 실행마다 스레드를 만들고 끝나면 정리 (배치 작업용)
+ */
+@Slf4j
+public class AudioSynthesisPipeline {
+
+    private static final long WAIT_POLL_MS = 100;  // 큐/permit 대기 중 저장 스레드 생존 확인 주기
+
+    private final GoogleTtsService ttsService;
+    private final FileStorageService fileStorageService;
+    private final int concurrency;
+    private final int queueCapacity;
+    private final int chunkSize;
+    private final String voiceKey;
+
+    public AudioSynthesisPipeline(GoogleTtsService ttsService, FileStorageService fileStorageService,
+                                  int concurrency, int queueCapacity, int chunkSize) {
+        this.ttsService = ttsService;
+        this.voiceKey = ttsService.voiceKey();
+        this.fileStorageService = fileStorageService;
+        this.concurrency = Math.max(1, concurrency);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 대상 전체 실행 - 모든 항목의 저장/갱신이 끝나야 반환
+     *
+     * @param subPath   저장 하위 경로 (예: "audio/words"), 파일 이름은 "{내용 주소}.mp3"
+     * @param knownUrls 저장됐거나 저장 중인 파일 (내용 주소 -> URL), 여러 실행이 공유 (ConcurrentHashMap)
+     *                  이번 실행이 선점한 주소는 저장되면 URL로 완료, 실패하면 제거 (다른 실행이 다시 시도)
+     * @param updater   저장된 (id, url) 청크를 DB에 반영 (예외 시 해당 청크만 실패 처리)
+     */
+    public Result run(List<? extends AudibleContent> contents, String subPath,
+                      Map<String, CompletableFuture<String>> knownUrls,
+                      Consumer<List<AudioUrlUpdate>> updater) throws InterruptedException {
+
+        Result result = new Result(contents.size());
+        if (contents.isEmpty()) return result;
+
+        // 0. 내용 주소로 묶기 (등장 순서 유지)
+        Map<String, Group> groups = new LinkedHashMap<>();
+        for (AudibleContent content : contents) {
+            String key = AudioContentKey.of(content.getContent(), voiceKey);
+            groups.computeIfAbsent(key, k -> new Group(k, content.getContent())).ids.add(content.getId());
+        }
+
+        List<Group> claims = new ArrayList<>();  // 이번 실행이 선점한 주소
+        BlockingQueue<Synthesized> queue = new LinkedBlockingQueue<>(queueCapacity);
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger threadIndex = new AtomicInteger();
+
+        ExecutorService ttsExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "tts-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorService writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tts-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Future<?> writer = writerExecutor.submit(() -> {
+                write(queue, subPath, knownUrls, updater, result);
+                return null;
+            });
+
+            // 1. 합성 - permit 수만큼만 동시에, 선점한 주소만 합성
+            //    이미 있는(또는 다른 실행이 합성 중인) 파일은 자기 합성을 모두 제출한 뒤에 기다림
+            List<Group> waiting = new ArrayList<>();
+            for (Group group : groups.values()) {
+                CompletableFuture<String> claim = new CompletableFuture<>();
+                group.existing = knownUrls.putIfAbsent(group.key, claim);
+                if (group.existing != null) {
+                    waiting.add(group);
+                    continue;
+                }
+                group.claim = claim;
+                claims.add(group);
+
+                if (!acquire(permits, 1, writer)) break;
+                ttsExecutor.execute(() -> {
+                    try {
+                        byte[] audioData = ttsService.synthesizeText(group.text);
+                        result.synthesized.incrementAndGet();
+                        if (!handOff(queue, new Synthesized(group, audioData, null), writer)) {
+                            result.failed.addAndGet(group.ids.size());
+                            release(knownUrls, group, new IllegalStateException("음성 파일 저장 단계 종료"));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        result.failed.addAndGet(group.ids.size());
+                        release(knownUrls, group, e);
+                        log.error("[ID: {}] 음성 합성 중 에러 발생: {}", group.ids, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+
+            // 기존 파일 재사용 - 다른 실행이 합성 중이면 저장될 때까지 기다림 (실패하면 이번에는 실패 처리, 다음 실행에서 재시도)
+            for (Group group : waiting) {
+                String knownUrl = await(group.existing, writer);
+                if (knownUrl == null) {
+                    if (writer.isDone()) break;
+                    result.failed.addAndGet(group.ids.size());
+                    continue;
+                }
+                result.reused.incrementAndGet();
+                if (!handOff(queue, new Synthesized(group, null, knownUrl), writer)) break;
+            }
+
+            // 2. 합성이 모두 끝나면(permit 전부 회수) 저장 스레드에 종료 표시
+            //    저장 스레드가 먼저 죽었으면 기다리지 않고 바로 아래 writer.get()에서 실패 처리
+            if (acquire(permits, concurrency, writer)) {
+                handOff(queue, Synthesized.END, writer);
+            }
+
+            writer.get();
+            return result;
+
+        } catch (ExecutionException e) {
+            throw new RuntimeException("음성 파일 저장 단계 실패", e.getCause());
+        } finally {
+            ttsExecutor.shutdownNow();
+            writerExecutor.shutdownNow();
+
+            // 끝내지 못한 선점은 풀어줌 (기다리는 다른 실행이 영원히 막히지 않고, 다음 실행이 다시 시도)
+            for (Group group : claims) {
+                release(knownUrls, group, new IllegalStateException("음성 생성 중단"));
+            }
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    // 큐에 넣기 - 저장 스레드가 살아있는 동안만 기다림 (저장 스레드가 죽으면 false, 영원히 막히지 않음)
+    private static boolean handOff(BlockingQueue<Synthesized> queue, Synthesized item, Future<?> writer)
+            throws InterruptedException {
+
+        while (!queue.offer(item, WAIT_POLL_MS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) return false;
+        }
+        return true;
+    }
+
+    // permit 얻기 - 저장 스레드가 죽으면 false (합성이 끝나도 큐가 비워지지 않아 permit이 돌아오지 않을 수 있음)
+    private static boolean acquire(Semaphore permits, int count, Future<?> writer) throws InterruptedException {
+
+        while (!permits.tryAcquire(count, WAIT_POLL_MS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) return false;
+        }
+        return true;
+    }
+
+    // 다른 실행의 저장 결과 기다리기 (실패했거나 이번 저장 스레드가 죽으면 null)
+    private static String await(CompletableFuture<String> existing, Future<?> writer) throws InterruptedException {
+
+        while (true) {
+            try {
+                return existing.get(WAIT_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (writer.isDone()) return null;
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+    }
+
+    // 선점 해제 - 완료되지 않았을 때만 (먼저 지운 뒤 완료해야 기다리던 쪽이 다음에 다시 선점할 수 있음)
+    private static void release(Map<String, CompletableFuture<String>> knownUrls, Group group, Throwable cause) {
+        if (group.claim.isDone()) return;
+        knownUrls.remove(group.key, group.claim);
+        group.claim.completeExceptionally(cause);
+    }
+
+    // 저장 단계 - 파일 저장 후 URL을 청크 단위로 모아 updater에 전달
+    private void write(BlockingQueue<Synthesized> queue, String subPath, Map<String, CompletableFuture<String>> knownUrls,
+                       Consumer<List<AudioUrlUpdate>> updater, Result result) throws InterruptedException {
+
+        List<AudioUrlUpdate> chunk = new ArrayList<>(chunkSize);
+
+        while (true) {
+            Synthesized item = queue.take();
+            if (item == Synthesized.END) break;
+
+            String audioUrl = item.audioUrl;
+            if (audioUrl == null) {
+                try {
+                    audioUrl = fileStorageService.storeFile(
+                            item.audioData, AudioContentKey.fileName(item.group.key), subPath);
+                    item.group.claim.complete(audioUrl);
+                } catch (Exception e) {
+                    result.failed.addAndGet(item.group.ids.size());
+                    release(knownUrls, item.group, e);
+                    log.error("[ID: {}] 음성 파일 저장 중 에러 발생: {}", item.group.ids, e.getMessage());
+                    continue;
+                }
+            }
+
+            // 같은 내용의 모든 행이 같은 파일을 가리킴
+            for (Long id : item.group.ids) {
+                chunk.add(new AudioUrlUpdate(id, audioUrl));
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, updater, result);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            flush(chunk, updater, result);
+        }
+    }
+
+    private void flush(List<AudioUrlUpdate> chunk, Consumer<List<AudioUrlUpdate>> updater, Result result) {
+        try {
+            updater.accept(chunk);
+            result.updated.addAndGet(chunk.size());
+        } catch (Exception e) {
+            // 파일은 저장됐지만 URL이 반영되지 않음 -> 다음 실행에서 다시 대상이 됨
+            result.failed.addAndGet(chunk.size());
+            log.error("audioUrl 청크 반영 실패 ({}건): {}", chunk.size(), e.getMessage());
+        }
+    }
+
+    // DB에 반영할 (id, audioUrl)
+    @Getter
+    public static final class AudioUrlUpdate {
+
+        private final Long id;
+        private final String audioUrl;
+
+        public AudioUrlUpdate(Long id, String audioUrl) {
+            this.id = id;
+            this.audioUrl = audioUrl;
+        }
+    }
+
+    // 실행 결과 (대상 / 반영 완료 / 실패 행 수, TTS 호출 / 기존 파일 재사용 수)
+    public static final class Result {
+
+        private final int requested;
+        private final AtomicInteger updated = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger synthesized = new AtomicInteger();
+        private final AtomicInteger reused = new AtomicInteger();
+
+        Result(int requested) {
+            this.requested = requested;
+        }
+
+        public int getRequested() {
+            return requested;
+        }
+
+        public int getUpdated() {
+            return updated.get();
+        }
+
+        public int getFailed() {
+            return failed.get();
+        }
+
+        public int getSynthesized() {
+            return synthesized.get();
+        }
+
+        public int getReused() {
+            return reused.get();
+        }
+    }
+
+    // 같은 내용 주소로 묶인 행들
+    private static final class Group {
+
+        private final String key;
+        private final String text;
+        private final List<Long> ids = new ArrayList<>(1);
+        private CompletableFuture<String> claim;     // 이번 실행이 선점한 주소 (합성 대상)
+        private CompletableFuture<String> existing;  // 이미 저장됐거나 다른 실행이 저장 중인 주소
+
+        Group(String key, String text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    // 저장 단계로 넘기는 항목 (audioUrl이 있으면 기존 파일 재사용)
+    private static final class Synthesized {
+
+        private static final Synthesized END = new Synthesized(null, null, null);  // 합성 종료 표시
+
+        private final Group group;
+        private final byte[] audioData;
+        private final String audioUrl;
+
+        Synthesized(Group group, byte[] audioData, String audioUrl) {
+            this.group = group;
+            this.audioData = audioData;
+            this.audioUrl = audioUrl;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.englishapp.api_server.batch;
+
+import java.util.List;
+
+/**
+ * 배치 작업 - BatchJobLauncher가 이름(--job=이름)으로 찾아 단계 순서대로 실행
+ * 단계별 진행 위치는 batch_checkpoints에 저장되어, 중단된 작업은 다음 실행 때 이어서 처리
+ */
+public interface BatchJob {
+
+    String getName();
+
+    // 실행마다 새 단계 인스턴스 (단계가 실행 중 상태를 가질 수 있음)
+    List<BatchStep<?>> createSteps();
+}
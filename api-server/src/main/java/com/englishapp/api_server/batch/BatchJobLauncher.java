@@ -0,0 +1,222 @@
+package com.englishapp.api_server.batch;
+
+import com.englishapp.api_server.domain.BatchJobStatus;
+import com.englishapp.api_server.entity.BatchCheckpoint;
+import com.englishapp.api_server.repository.BatchCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 배치 작업 실행기
+ * - 읽기: 실행 스레드가 keyset 페이지(ID > 마지막 ID)로 chunkSize개씩 읽음 (전체를 메모리에 올리지 않음)
+ * - 처리: 작업 스레드 workers개가 청크를 동시에 처리 (읽기는 처리 중인 청크가 workers개를 넘지 않도록 대기)
+ * - 체크포인트: 앞 청크가 모두 끝난 지점까지만 lastId를 올려 batch_checkpoints에 저장 (청크마다 별도 트랜잭션)
+ *   -> 중간에 죽거나 실패해도 다음 실행은 저장된 lastId 다음부터
+ *
+ * 메트릭 (tag: job, step)
+ * - batch.job.items      : 처리 완료 건수
+ * - batch.job.checkpoint : 저장된 마지막 ID
+ * - batch.job.chunk      : 청크 처리 시간
+ */
+@Component
+@Slf4j
+public class BatchJobLauncher {
+
+    private final Map<String, BatchJob> jobs;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    // 게이지는 레지스트리가 약한 참조로 들고 있으므로 여기서 보관 (job/step 당 1개)
+    private final Map<String, AtomicLong> checkpointGauges = new ConcurrentHashMap<>();
+
+    @Value("${batch.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${batch.workers:2}")
+    private int workers;
+
+    public BatchJobLauncher(List<BatchJob> jobs, BatchCheckpointRepository checkpointRepository,
+                            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(BatchJob::getName, Function.identity()));
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Set<String> getJobNames() {
+        return jobs.keySet();
+    }
+
+    /**
+     * 작업 실행 (모든 단계가 끝나야 반환)
+     *
+     * @param fresh true면 체크포인트를 무시하고 처음부터
+     * @return 모든 단계가 끝까지 처리되었는지
+     */
+    public boolean run(String jobName, boolean fresh) {
+
+        BatchJob job = jobs.get(jobName);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않는 배치 작업: " + jobName + " (가능: " + jobs.keySet() + ")");
+        }
+
+        log.info("===배치 작업 [{}] 시작 (fresh={}, chunkSize={}, workers={})===", jobName, fresh, chunkSize, workers);
+
+        for (BatchStep<?> step : job.createSteps()) {
+            if (!runStep(jobName, step, fresh)) {
+                log.error("===배치 작업 [{}] 중단: 단계 [{}] 실패 (다음 실행 시 체크포인트부터 재개)===", jobName, step.getName());
+                return false;
+            }
+        }
+
+        log.info("===배치 작업 [{}] 완료===", jobName);
+        return true;
+    }
+
+    /* 헬퍼 메소드 */
+    private <T> boolean runStep(String jobName, BatchStep<T> step, boolean fresh) {
+
+        Tags tags = Tags.of("job", jobName, "step", step.getName());
+        Counter itemCounter = meterRegistry.counter("batch.job.items", tags);
+        Timer chunkTimer = meterRegistry.timer("batch.job.chunk", tags);
+        AtomicLong checkpointGauge = checkpointGauges.computeIfAbsent(jobName + "/" + step.getName(),
+                key -> meterRegistry.gauge("batch.job.checkpoint", tags, new AtomicLong()));
+
+        BatchCheckpoint checkpoint = checkpointRepository.findByJobNameAndStepName(jobName, step.getName())
+                .orElseGet(() -> new BatchCheckpoint(jobName, step.getName()));
+        checkpoint.start(fresh);
+        Progress progress = new Progress(jobName, step.getName(), save(checkpoint), checkpointGauge);
+
+        if (checkpoint.getLastId() > 0) {
+            log.info("[{}/{}] ID {} 이후부터 재개 (이전 처리 {}건)",
+                    jobName, step.getName(), checkpoint.getLastId(), checkpoint.getProcessedCount());
+        }
+
+        step.open();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "batch-" + jobName + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(workers);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try {
+            long cursor = checkpoint.getLastId();
+            long sequence = 0;
+
+            // 1. 읽기 -> 작업 스레드에 청크 전달 (실패가 나면 더 읽지 않음)
+            while (failure.get() == null) {
+                List<T> chunk = step.read(cursor, chunkSize);
+                if (chunk.isEmpty()) break;
+
+                long chunkSequence = sequence++;
+                long chunkLastId = step.idOf(chunk.get(chunk.size() - 1));
+                cursor = chunkLastId;
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        chunkTimer.record(() -> step.process(chunk));
+                        itemCounter.increment(chunk.size());
+                        progress.complete(chunkSequence, chunkLastId, chunk.size());
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        log.error("[{}/{}] 청크 처리 실패 (ID {} 까지)", jobName, step.getName(), chunkLastId, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            // 2. 처리 중인 청크가 모두 끝날 때까지 대기
+            inFlight.acquire(workers);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            // 읽기 실패
+            failure.compareAndSet(null, e);
+            log.error("[{}/{}] 읽기 실패", jobName, step.getName(), e);
+        } finally {
+            executor.shutdown();
+        }
+
+        boolean completed = failure.get() == null;
+        progress.finish(completed ? BatchJobStatus.COMPLETED : BatchJobStatus.FAILED);
+        return completed;
+    }
+
+    private BatchCheckpoint save(BatchCheckpoint checkpoint) {
+        return transactionTemplate.execute(status -> checkpointRepository.save(checkpoint));
+    }
+
+    // 청크 완료 순서와 상관없이, 앞 청크가 모두 끝난 지점까지만 체크포인트를 올림
+    private final class Progress {
+
+        private final String jobName;
+        private final String stepName;
+        private final AtomicLong checkpointGauge;
+        private final Map<Long, long[]> completedAhead = new TreeMap<>();  // 순서 -> {lastId, 건수}
+        private BatchCheckpoint checkpoint;
+        private long nextSequence = 0;
+
+        Progress(String jobName, String stepName, BatchCheckpoint checkpoint, AtomicLong checkpointGauge) {
+            this.jobName = jobName;
+            this.stepName = stepName;
+            this.checkpoint = checkpoint;
+            this.checkpointGauge = checkpointGauge;
+            checkpointGauge.set(checkpoint.getLastId());
+        }
+
+        synchronized void complete(long sequence, long lastId, int count) {
+
+            completedAhead.put(sequence, new long[]{lastId, count});
+
+            long newLastId = -1;
+            long processed = checkpoint.getProcessedCount();
+            long[] done;
+            while ((done = completedAhead.remove(nextSequence)) != null) {
+                newLastId = done[0];
+                processed += done[1];
+                nextSequence++;
+            }
+            if (newLastId < 0) return;
+
+            checkpoint.advance(newLastId, processed);
+            checkpoint = save(checkpoint);
+            checkpointGauge.set(newLastId);
+            log.info("[{}/{}] {}건 처리, 체크포인트 ID {}", jobName, stepName, processed, newLastId);
+        }
+
+        synchronized void finish(BatchJobStatus status) {
+            checkpoint.finish(status);
+            checkpoint = save(checkpoint);
+            log.info("[{}/{}] 단계 종료: {} (총 {}건, 마지막 ID {})",
+                    jobName, stepName, status, checkpoint.getProcessedCount(), checkpoint.getLastId());
+        }
+    }
+}
@@ -1,23 +1,40 @@
 package com.englishapp.api_server.batch;
 
-import com.englishapp.api_server.service.AudioGenerationBatchService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+/**
+ * 실행 인자로 배치 작업 실행
+ * --job=작업이름 (예: --job=generateAudio), --fresh 를 함께 주면 체크포인트를 무시하고 처음부터
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class BatchJobRunner implements CommandLineRunner {
 
-    private final AudioGenerationBatchService batchService;
+    private static final String JOB_ARG = "--job=";
+
+    private final BatchJobLauncher batchJobLauncher;
 
     @Override
     public void run(String... args) throws Exception {
 
+        boolean fresh = false;
         for (String arg : args) {
-            if (arg.equals("--job=generateAudio")) {
-                batchService.generateMissingAudios();
+            if (arg.equals("--fresh")) fresh = true;
+        }
+
+        for (String arg : args) {
+            if (!arg.startsWith(JOB_ARG)) continue;
+
+            String jobName = arg.substring(JOB_ARG.length());
+            if (!batchJobLauncher.getJobNames().contains(jobName)) {
+                log.error("존재하지 않는 배치 작업: {} (가능: {})", jobName, batchJobLauncher.getJobNames());
+                continue;
             }
+            batchJobLauncher.run(jobName, fresh);
         }
     }
 }
@@ -0,0 +1,32 @@
+package com.englishapp.api_server.batch;
+
+import java.util.List;
+
+/**
+ * 배치 작업의 한 단계 - ID 순 keyset 페이지로 읽고 청크 단위로 처리
+ * 청크는 여러 작업 스레드에서 동시에 처리될 수 있으므로 processChunk는 스레드 안전해야 하고,
+ * 재시작 시 마지막 체크포인트 이후 청크가 다시 처리될 수 있으므로 같은 청크를 두 번 처리해도 결과가 같아야 함
+ *
+ * @param <T> 처리 대상 (ID를 가진 행)
+ */
+public interface BatchStep<T> {
+
+    String getName();
+
+    // 단계 시작 시 1번 (실행 단위 준비 작업)
+    default void open() {
+    }
+
+    /**
+     * afterId보다 큰 ID를 ID 오름차순으로 최대 limit개 (없으면 빈 리스트 -> 단계 종료)
+     */
+    List<T> read(long afterId, int limit);
+
+    long idOf(T item);
+
+    /**
+     * 청크 처리 - DB 쓰기는 청크(또는 그보다 작은) 단위 트랜잭션으로 커밋
+     * 예외를 던지면 단계가 FAILED로 중단되고 다음 실행 때 체크포인트부터 다시 처리
+     */
+    void process(List<T> chunk);
+}
@@ -0,0 +1,150 @@
+package com.englishapp.api_server.batch.job;
+
+import com.englishapp.api_server.batch.AudioContentKey;
+import com.englishapp.api_server.batch.AudioSynthesisPipeline;
+import com.englishapp.api_server.batch.BatchJob;
+import com.englishapp.api_server.batch.BatchStep;
+import com.englishapp.api_server.domain.AudibleContent;
+import com.englishapp.api_server.domain.EnglishType;
+import com.englishapp.api_server.repository.SentenceRepository;
+import com.englishapp.api_server.repository.WordRepository;
+import com.englishapp.api_server.service.FileStorageService;
+import com.englishapp.api_server.service.GoogleTtsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 오디오 파일 생성 배치 (--job=generateAudio)
+ * audioUrl이 없는 단어 -> 문장 순서로, 청크마다 TTS 파이프라인(AudioSynthesisPipeline)을 돌려 파일 저장 + audioUrl 갱신
+ * 처리된 행은 audioUrl이 채워져 읽기 조건에서 빠지므로, 재시작 후 같은 청크를 다시 읽어도 중복 생성 없음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AudioGenerationJob implements BatchJob {
+
+    public static final String NAME = "generateAudio";
+
+    private static final String UPDATE_WORD_AUDIO_URL = "UPDATE words SET audio_url = ? WHERE word_id = ?";
+    private static final String UPDATE_SENTENCE_AUDIO_URL = "UPDATE sentences SET audio_url = ? WHERE sentence_id = ?";
+
+    private final WordRepository wordRepository;
+    private final SentenceRepository sentenceRepository;
+    private final GoogleTtsService googleTtsService;
+    private final FileStorageService fileStorageService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${audio.batch.tts-concurrency:8}")
+    private int ttsConcurrency;  // 청크 하나에서 동시에 진행할 TTS 호출 수
+
+    @Value("${audio.batch.writer-queue-capacity:64}")
+    private int writerQueueCapacity;  // 합성은 끝났지만 아직 저장되지 않은 음성 최대 보관 수
+
+    @Value("${audio.batch.update-chunk-size:100}")
+    private int updateChunkSize;  // audioUrl 갱신 트랜잭션 하나에 담을 건수
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<BatchStep<?>> createSteps() {
+        return List.of(
+                new AudioStep<>(EnglishType.WORD, UPDATE_WORD_AUDIO_URL,
+                        (afterId, limit) -> wordRepository.findByAudioUrlIsNullAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)),
+                        wordRepository::findDistinctAudioUrls),
+                new AudioStep<>(EnglishType.SENTENCE, UPDATE_SENTENCE_AUDIO_URL,
+                        (afterId, limit) -> sentenceRepository.findByAudioUrlIsNullAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)),
+                        sentenceRepository::findDistinctAudioUrls));
+    }
+
+    /* 헬퍼 메소드 */
+    // 청크 하나 = 트랜잭션 하나, JDBC batch로 한 번에 전송
+    private void updateAudioUrls(String updateSql, List<AudioSynthesisPipeline.AudioUrlUpdate> chunk) {
+
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (AudioSynthesisPipeline.AudioUrlUpdate update : chunk) {
+            args.add(new Object[]{update.getAudioUrl(), update.getId()});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(updateSql, args));
+    }
+
+    // 타입(WORD/SENTENCE)별 단계 - 저장 경로 "audio/words", "audio/sentences"
+    private final class AudioStep<T extends AudibleContent> implements BatchStep<T> {
+
+        private final EnglishType type;
+        private final String subPath;
+        private final String updateSql;
+        private final BiFunction<Long, Integer, List<T>> reader;
+        private final Supplier<List<String>> storedUrls;
+        private final AudioSynthesisPipeline pipeline;
+
+        // 저장됐거나 저장 중인 내용 주소 파일 (동시에 처리되는 청크끼리 공유 - 같은 텍스트는 먼저 선점한 청크만 합성)
+        private final Map<String, CompletableFuture<String>> knownUrls = new ConcurrentHashMap<>();
+
+        AudioStep(EnglishType type, String updateSql, BiFunction<Long, Integer, List<T>> reader,
+                  Supplier<List<String>> storedUrls) {
+            this.type = type;
+            this.subPath = "audio/" + (type == EnglishType.WORD ? "words" : "sentences");
+            this.updateSql = updateSql;
+            this.reader = reader;
+            this.storedUrls = storedUrls;
+            this.pipeline = new AudioSynthesisPipeline(
+                    googleTtsService, fileStorageService, ttsConcurrency, writerQueueCapacity, updateChunkSize);
+        }
+
+        @Override
+        public String getName() {
+            return type.name();
+        }
+
+        @Override
+        public void open() {
+            for (String url : storedUrls.get()) {
+                String key = AudioContentKey.fromUrl(url);
+                if (key != null) knownUrls.putIfAbsent(key, CompletableFuture.completedFuture(url));
+            }
+        }
+
+        @Override
+        public List<T> read(long afterId, int limit) {
+            return reader.apply(afterId, limit);
+        }
+
+        @Override
+        public long idOf(T item) {
+            return item.getId();
+        }
+
+        @Override
+        public void process(List<T> chunk) {
+            try {
+                AudioSynthesisPipeline.Result result = pipeline.run(chunk, subPath, knownUrls,
+                        updates -> updateAudioUrls(updateSql, updates));
+                log.info("[{}] 청크 {}건: 반영 {}건, 실패 {}건 (TTS 호출 {}건, 기존 파일 재사용 {}건)",
+                        type, result.getRequested(), result.getUpdated(), result.getFailed(),
+                        result.getSynthesized(), result.getReused());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("오디오 생성 중단", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.englishapp.api_server.config;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * GCS 파일 저장(GcsFileStorageServiceImpl)에서 사용하는 Storage 클라이언트
+ * spring-cloud-gcp-starter-storage 2.x의 자동 설정은 Spring Boot 3에서 등록되지 않으므로 직접 등록
+ * 인증 파일이 없으면 실행 환경의 기본 인증(GOOGLE_APPLICATION_CREDENTIALS, GCE/Cloud Run 서비스 계정)을 사용
+ */
+@Configuration
+@Profile("prod")
+@Slf4j
+public class GcsStorageConfig {
+
+    @Value("${spring.cloud.gcp.project-id}")
+    private String projectId;
+
+    @Value("${spring.cloud.gcp.credentials.location:}")
+    private Resource credentialsLocation;
+
+    @Bean
+    public Storage storage() throws IOException {
+
+        StorageOptions.Builder builder = StorageOptions.newBuilder().setProjectId(projectId);
+
+        if (credentialsLocation != null && credentialsLocation.exists()) {
+            try (InputStream in = credentialsLocation.getInputStream()) {
+                builder.setCredentials(GoogleCredentials.fromStream(in));
+            }
+        } else {
+            log.info("GCP 인증 파일이 없어 기본 인증으로 Storage 클라이언트 생성");
+        }
+        return builder.build().getService();
+    }
+}
@@ -55,6 +55,9 @@ public class SecurityConfig {
                         // 3. 공용 API (인증/조회)
                         .requestMatchers("/api/auth/**", "/api/users/signup").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/places/**", "/api/announcements/**", "/api/products/**").permitAll()
+                        // 발음 오디오 (<audio> 태그/플레이어는 인증 헤더를 보낼 수 없음)
+                        .requestMatchers(HttpMethod.GET, "/api/audio/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/audio/**").permitAll()
 
                         // A. 관리자, 본인 전용 기능 (일시정지, 재시작) - 가장 구체적이므로 먼저 체크
                         .requestMatchers("/api/licenses/*/pause", "/api/licenses/*/resume").hasAnyAuthority("STUDENT", "TEACHER", "ADMIN")
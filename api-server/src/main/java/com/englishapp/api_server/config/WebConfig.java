@@ -21,7 +21,6 @@ public class WebConfig implements WebMvcConfigurer {
                 // "/images/**"의 URL 패턴으로 요청이 오면 로컬 디스크의 경로에서 파일을 찾아 제공
                 .addResourceLocations(imageResourcePath);
 
-        // 오디오 파일 경로 설정
-        // String audioResourcePath = "file:///" + uploadDir + "/audios";
+        // 오디오 파일(/api/audio/**)은 Range/ETag/캐시 헤더 처리가 필요해 MediaController에서 제공
     }
 }
@@ -7,6 +7,7 @@ import com.englishapp.api_server.dto.response.AdminOrderDto;
 import com.englishapp.api_server.dto.response.AdminSignupPermitResponse;
 import com.englishapp.api_server.dto.response.UserResponse;
 import com.englishapp.api_server.entity.User;
+import com.englishapp.api_server.game.catalog.GameRegistry;
 import com.englishapp.api_server.repository.UserRepository;
 import com.englishapp.api_server.service.AdminService;
 import com.englishapp.api_server.service.OrderService;
@@ -36,6 +37,7 @@ public class AdminController {
     private final UserRepository userRepository;
     private final PaymentService paymentService;
     private final OrderService orderService;
+    private final GameRegistry gameRegistry;
 
     // 승인 대기 목록 조회
     @GetMapping("/pending")
@@ -108,4 +110,11 @@ public class AdminController {
         paymentService.processRefund(orderId, "관리자 승인(Admin Page)");
         return ResponseEntity.ok("환불 처리가 완료되었습니다.");
     }
+
+    // 게임 레지스트리 재적재 (games 테이블 변경 후 호출)
+    @PostMapping("/games/reload")
+    public ResponseEntity<String> reloadGames() {
+        int count = gameRegistry.reload();
+        return ResponseEntity.ok("게임 " + count + "건을 다시 적재했습니다.");
+    }
 }
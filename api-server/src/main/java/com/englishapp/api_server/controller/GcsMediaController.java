@@ -0,0 +1,68 @@
+package com.englishapp.api_server.controller;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발음 오디오 파일 제공 - prod 프로필 (GcsFileStorageServiceImpl로 저장한 객체)
+ * 애플리케이션이 본문을 중계하지 않고 서명 URL로 302 리다이렉트
+ * (Range/ETag/캐시 처리는 GCS가 담당, 비공개 버킷이어도 인증 헤더 없이 <audio> 태그로 재생 가능)
+ * 경로 형식은 로컬(MediaController)과 같음: /api/audio/{words|sentences}/{파일 이름}
+ */
+@RestController
+@RequestMapping("/api/audio")
+@Profile("prod")
+@Slf4j
+@RequiredArgsConstructor
+public class GcsMediaController {
+
+    private final Storage storage;
+
+    @Value("${file.gcs.bucket}")
+    private String bucket;
+
+    @Value("${media.audio.signed-url-ttl-seconds:3600}")
+    private long signedUrlTtlSeconds;  // 서명 URL 유효 시간 (리다이렉트 응답은 그 절반만 캐시)
+
+    @GetMapping("/{type}/{fileName}")
+    public void getAudio(@PathVariable String type, @PathVariable String fileName,
+                         HttpServletResponse response) throws IOException {
+
+        // 경로 검증 (정해진 폴더/파일 이름 형식만 - 다른 객체로의 서명 차단)
+        if (!MediaController.AUDIO_TYPES.contains(type) || !MediaController.FILE_NAME.matcher(fileName).matches()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 객체 이름은 저장 시 반환한 경로와 같음 ("audio/words/{hash}.mp3")
+        BlobInfo blob = BlobInfo.newBuilder(BlobId.of(bucket, "audio/" + type + "/" + fileName)).build();
+        URL signedUrl;
+        try {
+            signedUrl = storage.signUrl(blob, signedUrlTtlSeconds, TimeUnit.SECONDS,
+                    Storage.SignUrlOption.withV4Signature());
+        } catch (RuntimeException e) {
+            log.error("오디오 서명 URL 생성 실패: {}/{}", type, fileName, e);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        // 만료된 URL을 캐시에서 다시 쓰지 않도록 유효 시간보다 짧게
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + signedUrlTtlSeconds / 2);
+        response.sendRedirect(signedUrl.toString());
+    }
+}
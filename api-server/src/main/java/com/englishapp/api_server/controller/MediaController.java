@@ -0,0 +1,210 @@
+package com.englishapp.api_server.controller;
+
+import com.englishapp.api_server.batch.AudioContentKey;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 발음 오디오 파일 제공 (audio/words, audio/sentences)
+ * - Range 요청(구간 재생/탐색) 지원: 단일 구간은 206, 시작 위치가 파일 밖이면 416
+ *   (형식이 잘못된 구간(bytes=5-3 등)이나 여러 구간 요청은 Range를 무시하고 전체 전송)
+ * - 강한 ETag + If-None-Match -> 304: 내용 주소 파일("{hash}.mp3")은 해시를, 예전 "{id}.mp3"는 크기/수정 시각을 사용
+ * - 내용 주소 파일은 내용이 바뀌지 않으므로 immutable로 오래 캐시, 예전 파일은 짧게 캐시 후 ETag로 재검증
+ * - 본문은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 전송 (애플리케이션 버퍼 복사 없음)
+ * 로컬 디스크(file.upload-dir)에 저장한 파일이므로 local 프로필 전용 (prod는 GcsMediaController가 GCS로 리다이렉트)
+ */
+@RestController
+@Profile("local")
+@RequestMapping("/api/audio")
+@Slf4j
+public class MediaController {
+
+    static final Set<String> AUDIO_TYPES = Set.of("words", "sentences");
+    static final long[] UNSATISFIABLE = new long[0];  // parseRange 결과 - 416
+    static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.mp3");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final String AUDIO_MPEG = "audio/mpeg";
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 지원 시 커널이 파일 -> 소켓으로 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${media.audio.immutable-max-age:31536000}")
+    private long immutableMaxAge;  // 내용 주소 파일 캐시 시간 (초)
+
+    @Value("${media.audio.legacy-max-age:86400}")
+    private long legacyMaxAge;  // 예전 "{id}.mp3" 파일 캐시 시간 (초, 이후 ETag로 재검증)
+
+    private Path audioRoot;
+
+    @PostConstruct
+    public void init() {
+        audioRoot = Paths.get(uploadDir).resolve("audio").toAbsolutePath().normalize();
+    }
+
+    @GetMapping("/{type}/{fileName}")
+    public void getAudio(@PathVariable String type, @PathVariable String fileName,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        // 1. 경로 검증 (정해진 폴더/파일 이름 형식만 - 경로 조작 차단)
+        if (!AUDIO_TYPES.contains(type) || !FILE_NAME.matcher(fileName).matches()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path file = audioRoot.resolve(type).resolve(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        String contentKey = AudioContentKey.fromUrl(fileName);
+        String etag = contentKey != null
+                ? "\"" + contentKey + "\""
+                : "\"" + Long.toHexString(length) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+
+        // 2. 공통 헤더
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentKey != null
+                ? "public, max-age=" + immutableMaxAge + ", immutable"
+                : "public, max-age=" + legacyMaxAge);
+
+        // 3. 조건부 요청 - 이미 가진 파일이면 본문 없이 304
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 4. 구간 계산 (If-Range가 다르면 파일이 바뀐 것이므로 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(AUDIO_MPEG);
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) return;
+
+        // 5. 본문 전송 - sendfile 우선, 안 되면 transferTo
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);  // end는 포함하지 않음
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (IOException e) {
+            // 재생 중 탐색/종료로 클라이언트가 연결을 끊는 경우가 흔함
+            log.debug("오디오 전송 중단: {}/{} ({})", type, fileName, e.getMessage());
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Range 헤더("bytes=a-b", "bytes=a-", "bytes=-n") -> 구간 {start, end}
+     *
+     * @return null: 형식 오류/여러 구간 -> Range 무시하고 전체 전송, UNSATISFIABLE: 파일 밖 -> 416
+     */
+    static long[] parseRange(String range, long length) {
+
+        Matcher matcher = RANGE.matcher(range.trim());
+        if (!matcher.matches()) return null;
+
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        if (first.isEmpty() && last.isEmpty()) return null;
+
+        try {
+            if (first.isEmpty()) {
+                // 끝에서 n바이트 (0바이트 요청이나 빈 파일은 보낼 구간이 없음)
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || length == 0) return UNSATISFIABLE;
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) return null;
+            if (start >= length) return UNSATISFIABLE;
+
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            return new long[]{start, end};
+
+        } catch (NumberFormatException e) {
+            return null;  // long 범위를 넘는 숫자
+        }
+    }
+}
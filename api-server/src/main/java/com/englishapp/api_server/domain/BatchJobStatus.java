@@ -0,0 +1,8 @@
+package com.englishapp.api_server.domain;
+
+public enum BatchJobStatus {
+
+    RUNNING,    // 실행 중 (중간에 서버가 죽었으면 이 상태로 남음 -> 다음 실행 시 이어서)
+    FAILED,     // 청크 처리 실패로 중단 -> 다음 실행 시 이어서
+    COMPLETED   // 끝까지 처리 -> 다음 실행은 처음부터
+}
@@ -0,0 +1,61 @@
+package com.englishapp.api_server.entity;
+
+import com.englishapp.api_server.domain.BatchJobStatus;
+import com.englishapp.api_server.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 배치 작업 단계별 진행 위치 (여기까지의 ID는 모두 처리 완료 -> 재시작 시 lastId 다음부터)
+@Entity
+@Table(name = "batch_checkpoints", uniqueConstraints = {@UniqueConstraint(name = "uk_job_step", columnNames = {"job_name", "step_name"})})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "step_name", nullable = false, length = 100)
+    private String stepName;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private BatchJobStatus status;
+
+    public BatchCheckpoint(String jobName, String stepName) {
+        this.jobName = jobName;
+        this.stepName = stepName;
+        this.status = BatchJobStatus.COMPLETED;
+    }
+
+    // 실행 시작 - 이전 실행이 끝까지 갔거나 fresh면 처음부터, 아니면 이어서
+    public void start(boolean fresh) {
+        if (fresh || this.status == BatchJobStatus.COMPLETED) {
+            this.lastId = 0;
+            this.processedCount = 0;
+        }
+        this.status = BatchJobStatus.RUNNING;
+    }
+
+    public void advance(long lastId, long processedCount) {
+        this.lastId = lastId;
+        this.processedCount = processedCount;
+    }
+
+    public void finish(BatchJobStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,186 @@
+package com.englishapp.api_server.game.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MysteryCards 오답용 "헷갈리는 단어" 인덱스 (MinHash + LSH)
+ * 단어 철자의 글자 3-gram과 설명 문장의 단어를 특징으로 MinHash 서명을 만들고,
+ * 서명을 밴드로 나눈 LSH 버킷에서 후보를 찾아 유사도 상위 N개를 미리 계산해 둠
+ *
+ * 쓰기(add)는 한 스레드에서만 호출해야 하며, 읽기(confusablesOf)는 lock 없이 어느 스레드에서나 가능
+ */
+public class ConfusableIndex {
+
+    private static final int NUM_HASHES = 64;
+    private static final int BANDS = 32;
+    private static final int ROWS = NUM_HASHES / BANDS;
+    private static final int NGRAM = 3;
+    private static final int MIN_TOKEN_LENGTH = 4;     // 설명 문장에서 짧은 단어(a, the, is ...)는 제외
+    private static final int MAX_CONFUSABLES = 8;      // 단어별로 보관할 유사 단어 수
+    private static final int MAX_BUCKET_SCAN = 200;    // 흔한 특징으로 버킷이 커져도 후보 비교 수를 제한
+
+    private static final int[] SEEDS = new int[NUM_HASHES];
+
+    static {
+        Random seedRandom = new Random(0x5EEDL);  // 재적재해도 같은 서명이 나오도록 고정 시드
+        for (int i = 0; i < NUM_HASHES; i++) {
+            SEEDS[i] = seedRandom.nextInt();
+        }
+    }
+
+    // 쓰기 전용 상태
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, List<Long>> bandBuckets = new HashMap<>();
+    private final Map<Long, TopList> neighbors = new HashMap<>();
+
+    // 읽기용 결과 (detail_id -> 유사도 순 detail_id 배열)
+    private final Map<Long, long[]> confusables = new ConcurrentHashMap<>();
+
+    /**
+     * 단어 하나를 인덱스에 추가하고, 기존 단어들의 유사 목록도 함께 갱신
+     */
+    public void add(long detailId, String content, String description) {
+
+        if (signatures.containsKey(detailId)) return;
+
+        int[] signature = signature(content, description);
+        signatures.put(detailId, signature);
+
+        // 1. 같은 밴드 버킷에 들어있는 후보 수집
+        Set<Long> candidates = new HashSet<>();
+        long[] bandKeys = bandKeys(signature);
+
+        for (long bandKey : bandKeys) {
+            List<Long> bucket = bandBuckets.computeIfAbsent(bandKey, k -> new ArrayList<>());
+            int scanFrom = Math.max(0, bucket.size() - MAX_BUCKET_SCAN);
+
+            for (int i = scanFrom; i < bucket.size(); i++) {
+                candidates.add(bucket.get(i));
+            }
+            bucket.add(detailId);
+        }
+
+        // 2. 후보와 유사도 비교 (양방향으로 상위 목록 갱신)
+        TopList own = new TopList();
+        neighbors.put(detailId, own);
+
+        for (Long candidateId : candidates) {
+            double similarity = similarity(signature, signatures.get(candidateId));
+
+            own.offer(candidateId, similarity);
+
+            TopList other = neighbors.get(candidateId);
+            if (other.offer(detailId, similarity)) {
+                confusables.put(candidateId, other.toIds());
+            }
+        }
+
+        confusables.put(detailId, own.toIds());
+    }
+
+    public long[] confusablesOf(long detailId) {
+        return confusables.getOrDefault(detailId, new long[0]);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /* 헬퍼 메소드 */
+    private static int[] signature(String content, String description) {
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        // 철자 특징: 앞뒤 경계 문자를 붙인 글자 3-gram (예: ^ap, app, ppl, ple, le$)
+        String word = "^" + content.toLowerCase(Locale.ROOT) + "$";
+        for (int i = 0; i + NGRAM <= word.length(); i++) {
+            updateSignature(signature, word.substring(i, i + NGRAM).hashCode() * 31 + 'c');
+        }
+
+        // 의미 특징: 설명 문장의 단어
+        if (description != null) {
+            for (String token : description.toLowerCase(Locale.ROOT).split("[^a-z]+")) {
+                if (token.length() >= MIN_TOKEN_LENGTH) {
+                    updateSignature(signature, token.hashCode() * 31 + 'd');
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static void updateSignature(int[] signature, int feature) {
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int h = mix(feature ^ SEEDS[i]);
+            if (h < signature[i]) signature[i] = h;
+        }
+    }
+
+    private static long[] bandKeys(int[] signature) {
+
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long h = band;
+            for (int r = 0; r < ROWS; r++) {
+                h = h * 0x100000001B3L + signature[band * ROWS + r];
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    // 일치하는 해시 비율 = Jaccard 유사도 추정치
+    private static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    // murmur3 finalizer
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // 유사도 상위 N개만 유지하는 작은 정렬 목록
+    private static class TopList {
+
+        private final long[] ids = new long[MAX_CONFUSABLES];
+        private final double[] scores = new double[MAX_CONFUSABLES];
+        private int size;
+
+        // 목록이 바뀌었으면 true
+        boolean offer(long id, double score) {
+            if (size == MAX_CONFUSABLES && score <= scores[size - 1]) return false;
+
+            int pos = size == MAX_CONFUSABLES ? size - 1 : size++;
+            while (pos > 0 && scores[pos - 1] < score) {
+                ids[pos] = ids[pos - 1];
+                scores[pos] = scores[pos - 1];
+                pos--;
+            }
+            ids[pos] = id;
+            scores[pos] = score;
+            return true;
+        }
+
+        long[] toIds() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.englishapp.api_server.game.catalog;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
+import com.englishapp.api_server.game.domain.LevelSettings;
+import com.englishapp.api_server.game.entity.Game;
+import com.englishapp.api_server.game.repository.GameRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 게임 목록 메모리 레지스트리 (gameId -> GameName, 레벨별 설정)
+ * games 테이블은 GameName enum 수만큼만 있고 거의 바뀌지 않으므로, 요청마다 조회하지 않고 시작 시 한 번 적재
+ * 변경 시에는 관리자 API로 재적재 (등록되지 않은 ID가 들어오면 DB를 한 번 확인 후 재적재)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GameRegistry {
+
+    private final GameRepository gameRepository;
+
+    // 읽기는 lock 없이 참조만 사용, 재적재 시 새 맵으로 통째로 교체
+    private volatile Map<Long, GameInfo> games = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 적재 실패 시에도 서버는 기동 (조회 시 DB 확인으로 대체됨)
+            log.error("게임 레지스트리 초기 적재 실패", e);
+        }
+    }
+
+    // 전체 재적재 (적재된 게임 수 반환)
+    public synchronized int reload() {
+
+        Map<Long, GameInfo> loaded = new HashMap<>();
+        for (Game game : gameRepository.findAll()) {
+            loaded.put(game.getId(), new GameInfo(game.getId(), game.getGameName()));
+        }
+        games = Map.copyOf(loaded);
+
+        log.info("게임 레지스트리 적재 완료: {}건", loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * gameId로 게임 정보 조회
+     *
+     * @throws IllegalArgumentException 존재하지 않는 게임
+     */
+    public GameInfo get(Long gameId) {
+
+        GameInfo info = games.get(gameId);
+        if (info != null) return info;
+
+        // 적재 전이거나 새로 추가된 게임이면 DB 확인 후 재적재
+        if (gameId == null || gameRepository.findById(gameId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않은 게임");
+        }
+        reload();
+        return games.get(gameId);
+    }
+
+    // 전체 게임 목록 (ID 순)
+    public List<GameInfo> getAll() {
+        List<GameInfo> all = new ArrayList<>(games.values());
+        all.sort(Comparator.comparing(GameInfo::getId));
+        return all;
+    }
+
+    // 불변 게임 정보
+    @Getter
+    public static final class GameInfo {
+
+        private final Long id;
+        private final GameName gameName;
+        private final Map<GameLevel, LevelSettings> levels;
+
+        GameInfo(Long id, GameName gameName) {
+            this.id = id;
+            this.gameName = gameName;
+            this.levels = LevelSettings.defaultsOf(gameName);
+        }
+
+        public LevelSettings settings(GameLevel level) {
+            return levels.get(level);
+        }
+    }
+}
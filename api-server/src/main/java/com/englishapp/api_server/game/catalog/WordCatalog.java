@@ -0,0 +1,322 @@
+package com.englishapp.api_server.game.catalog;
+
+import com.englishapp.api_server.domain.EnglishType;
+import com.englishapp.api_server.entity.Word;
+import com.englishapp.api_server.game.domain.WordBucket;
+import com.englishapp.api_server.repository.WordRepository;
+import com.englishapp.api_server.util.RandomSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * FallingWords용 단어(type = WORD) 메모리 카탈로그
+ * 매 플레이마다 "ORDER BY RAND()"로 words 테이블을 풀스캔하지 않도록 시작 시 한 번 적재하고,
+ * 이후에는 추가된 단어만 주기적으로 덧붙임 (수정/삭제는 새벽 전체 재적재로 반영)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WordCatalog {
+
+    private final WordRepository wordRepository;
+
+    // 읽기는 lock 없이 스냅샷 참조만 사용, 갱신 시 새 스냅샷으로 통째로 교체
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 적재 실패 시에도 서버는 기동 (비어있는 동안에는 DB 조회로 대체됨)
+            log.error("단어 카탈로그 초기 적재 실패", e);
+        }
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // 전체 재적재 (내용 수정, 삭제까지 반영)
+    @Scheduled(cron = "${game.catalog.reload-cron:0 30 4 * * *}")
+    public synchronized void reload() {
+
+        List<Word> words = wordRepository.findByTypeAndIdGreaterThanOrderByIdAsc(EnglishType.WORD, 0L);
+        snapshot = Snapshot.EMPTY.append(words);
+
+        log.info("단어 카탈로그 전체 적재 완료: {}건", snapshot.size());
+    }
+
+    // 증분 갱신 (마지막으로 적재한 ID 이후에 추가된 단어만 조회)
+    @Scheduled(fixedDelayString = "${game.catalog.refresh-interval-ms:60000}",
+               initialDelayString = "${game.catalog.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+
+        Snapshot current = snapshot;
+        List<Word> added = wordRepository.findByTypeAndIdGreaterThanOrderByIdAsc(EnglishType.WORD, current.getLastId());
+
+        if (added.isEmpty()) return;
+
+        snapshot = current.append(added);
+        log.info("단어 카탈로그 증분 갱신: {}건 추가 (총 {}건)", added.size(), snapshot.size());
+    }
+
+    /**
+     * 불변 스냅샷 - 단어 정보를 원시 배열(병렬 배열)로 보관
+     * 인덱스(0 ~ size-1)로 접근하며, 추출 결과도 인덱스 배열로 반환
+     * 난이도 구간(WordBucket)별 인덱스 목록을 적재 시점에 미리 나눠둠
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new String[0], new String[0], 0,
+                emptyBuckets());
+
+        private final long[] ids;
+        private final String[] contents;
+        private final String[] meanings;
+        private final String[] audioUrls;
+        private final int size;
+        private final int[][] buckets;  // WordBucket.ordinal() -> 스냅샷 인덱스 목록
+
+        private Snapshot(long[] ids, String[] contents, String[] meanings, String[] audioUrls, int size,
+                         int[][] buckets) {
+            this.ids = ids;
+            this.contents = contents;
+            this.meanings = meanings;
+            this.audioUrls = audioUrls;
+            this.size = size;
+            this.buckets = buckets;
+        }
+
+        private static int[][] emptyBuckets() {
+            int[][] buckets = new int[WordBucket.values().length][];
+            Arrays.fill(buckets, new int[0]);
+            return buckets;
+        }
+
+        // 기존 배열 뒤에 단어를 덧붙인 새 스냅샷 생성 (기존 스냅샷은 그대로 유지)
+        Snapshot append(List<Word> words) {
+
+            int newSize = size + words.size();
+            long[] newIds = Arrays.copyOf(ids, newSize);
+            String[] newContents = Arrays.copyOf(contents, newSize);
+            String[] newMeanings = Arrays.copyOf(meanings, newSize);
+            String[] newAudioUrls = Arrays.copyOf(audioUrls, newSize);
+
+            // 구간별로 추가될 개수를 먼저 세서 배열을 한 번만 늘림
+            WordBucket[] wordBuckets = new WordBucket[words.size()];
+            int[] addCounts = new int[buckets.length];
+            for (int w = 0; w < words.size(); w++) {
+                wordBuckets[w] = WordBucket.of(words.get(w).getContent());
+                addCounts[wordBuckets[w].ordinal()]++;
+            }
+
+            int[][] newBuckets = new int[buckets.length][];
+            int[] fill = new int[buckets.length];
+            for (int b = 0; b < buckets.length; b++) {
+                newBuckets[b] = Arrays.copyOf(buckets[b], buckets[b].length + addCounts[b]);
+                fill[b] = buckets[b].length;
+            }
+
+            int i = size;
+            for (int w = 0; w < words.size(); w++) {
+                Word word = words.get(w);
+                newIds[i] = word.getId();
+                newContents[i] = word.getContent();
+                newMeanings[i] = word.getMeaning();
+                newAudioUrls[i] = word.getAudioUrl();
+
+                int b = wordBuckets[w].ordinal();
+                newBuckets[b][fill[b]++] = i;
+                i++;
+            }
+
+            return new Snapshot(newIds, newContents, newMeanings, newAudioUrls, newSize, newBuckets);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public long getLastId() {
+            return size == 0 ? 0L : ids[size - 1];
+        }
+
+        public long getId(int idx) {
+            return ids[idx];
+        }
+
+        public String getContent(int idx) {
+            return contents[idx];
+        }
+
+        public String getMeaning(int idx) {
+            return meanings[idx];
+        }
+
+        public String getAudioUrl(int idx) {
+            return audioUrls[idx];
+        }
+
+        public int bucketSize(WordBucket... group) {
+            int total = 0;
+            for (WordBucket bucket : group) {
+                total += buckets[bucket.ordinal()].length;
+            }
+            return total;
+        }
+
+        /**
+         * 지정한 난이도 구간들(합집합)에서 단어를 중복 없이 count개 무작위 추출
+         * 구간 배열을 이어붙이지 않고 가상 인덱스를 구간 오프셋으로 변환하므로 추출 1건당 O(구간 수)
+         *
+         * @param count 뽑을 단어 수
+         * @param group 추출 대상 구간
+         * @return 스냅샷 인덱스 배열 (구간에 단어가 부족하면 있는 만큼만 반환)
+         */
+        public int[] sample(int count, Random random, WordBucket... group) {
+            return sample(count, random, null, group);
+        }
+
+        /**
+         * 이미 뽑힌 단어를 제외하고 추출 (여러 라운드를 한 번에 만들 때 라운드 간 중복 방지)
+         *
+         * @param used 제외할 스냅샷 인덱스 (추출한 인덱스도 여기에 표시됨, null이면 제외 없음)
+         */
+        public int[] sample(int count, Random random, BitSet used, WordBucket... group) {
+
+            int[] picked = new int[Math.min(count, bucketSize(group))];
+            int filled = drawInto(picked, 0, picked.length, new RandomSampler(bucketSize(group), random, count), group, used);
+            return filled == picked.length ? picked : Arrays.copyOf(picked, filled);
+        }
+
+        /**
+         * 두 구간 그룹에서 비율을 나눠 추출 (예: 긴 단어 70% + 짧은 단어 30%)
+         * 한쪽 그룹이 모자라면 나머지 그룹에서 채워 최대한 count개를 맞춤
+         *
+         * @param count        뽑을 단어 수
+         * @param primaryRatio 주 그룹 비율 (0.0 ~ 1.0)
+         * @param primary      주 그룹 구간
+         * @param secondary    보조 그룹 구간 (주 그룹과 겹치지 않아야 함)
+         * @return 스냅샷 인덱스 배열 (두 그룹이 섞인 순서)
+         */
+        public int[] sampleMixed(int count, double primaryRatio, Random random,
+                                 WordBucket[] primary, WordBucket[] secondary) {
+            return sampleMixed(count, primaryRatio, random, null, primary, secondary);
+        }
+
+        // 이미 뽑힌 단어를 제외하고 비율 추출 (used: sample 참고)
+        public int[] sampleMixed(int count, double primaryRatio, Random random, BitSet used,
+                                 WordBucket[] primary, WordBucket[] secondary) {
+
+            int primarySize = bucketSize(primary);
+            int secondarySize = bucketSize(secondary);
+
+            int primaryCount = Math.min(primarySize, (int) Math.round(count * primaryRatio));
+            int secondaryCount = Math.min(secondarySize, count - primaryCount);
+            primaryCount = Math.min(primarySize, count - secondaryCount);  // 보조 그룹 부족분을 주 그룹에서 보충
+
+            int[] picked = new int[primaryCount + secondaryCount];
+            int filled = drawInto(picked, 0, primaryCount,
+                    new RandomSampler(primarySize, random, primaryCount), primary, used);
+            filled += drawInto(picked, filled, secondaryCount,
+                    new RandomSampler(secondarySize, random, secondaryCount), secondary, used);
+            if (filled < picked.length) picked = Arrays.copyOf(picked, filled);  // 제외로 모자라면 있는 만큼만
+
+            // 주 그룹 -> 보조 그룹 순으로 채워졌으므로 결과만 한 번 섞음 (O(count))
+            for (int i = picked.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = picked[i];
+                picked[i] = picked[j];
+                picked[j] = tmp;
+            }
+            return picked;
+        }
+
+        /**
+         * 끝없이 이어지는 모드용 커서 - 한 번에 하나씩, 중복 없이 꺼냄 (목록을 미리 만들지 않음)
+         * 매 추출마다 primaryRatio 확률로 주 그룹에서 뽑고, 한쪽 그룹이 바닥나면 다른 쪽에서만 뽑음
+         *
+         * @param secondary 보조 그룹 (없으면 빈 배열)
+         */
+        public WordCursor cursor(Random random, double primaryRatio, WordBucket[] primary, WordBucket[] secondary) {
+            return new WordCursor(random, primaryRatio, primary, secondary);
+        }
+
+        public final class WordCursor {
+
+            private final Random random;
+            private final double primaryRatio;
+            private final WordBucket[] primary;
+            private final WordBucket[] secondary;
+            private final RandomSampler primarySampler;
+            private final RandomSampler secondarySampler;
+
+            private WordCursor(Random random, double primaryRatio, WordBucket[] primary, WordBucket[] secondary) {
+                this.random = random;
+                this.primaryRatio = primaryRatio;
+                this.primary = primary;
+                this.secondary = secondary;
+                this.primarySampler = new RandomSampler(bucketSize(primary), random);
+                this.secondarySampler = new RandomSampler(bucketSize(secondary), random);
+            }
+
+            public boolean hasNext() {
+                return primarySampler.hasNext() || secondarySampler.hasNext();
+            }
+
+            // 다음 단어의 스냅샷 인덱스 (이 커서를 만든 스냅샷 기준)
+            public int next() {
+                boolean fromPrimary = primarySampler.hasNext()
+                        && (!secondarySampler.hasNext() || random.nextDouble() < primaryRatio);
+
+                return fromPrimary
+                        ? resolve(primarySampler.next(), primary)
+                        : resolve(secondarySampler.next(), secondary);
+            }
+
+            public Snapshot getSnapshot() {
+                return Snapshot.this;
+            }
+        }
+
+        /* 헬퍼 메소드 */
+        // count개를 채우거나 구간이 바닥날 때까지 추출, 채운 수 반환
+        private int drawInto(int[] target, int offset, int count, RandomSampler sampler, WordBucket[] group,
+                             BitSet used) {
+            int filled = 0;
+            while (filled < count && sampler.hasNext()) {
+                int idx = resolve(sampler.next(), group);
+                if (used != null) {
+                    if (used.get(idx)) continue;
+                    used.set(idx);
+                }
+                target[offset + filled++] = idx;
+            }
+            return filled;
+        }
+
+        // 구간 합집합 기준 가상 인덱스 -> 실제 스냅샷 인덱스
+        private int resolve(int virtualIdx, WordBucket[] group) {
+            for (WordBucket bucket : group) {
+                int[] indexes = buckets[bucket.ordinal()];
+                if (virtualIdx < indexes.length) return indexes[virtualIdx];
+                virtualIdx -= indexes.length;
+            }
+            throw new IllegalArgumentException("구간 범위를 벗어난 인덱스");
+        }
+    }
+}
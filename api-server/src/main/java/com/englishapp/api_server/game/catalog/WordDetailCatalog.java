@@ -0,0 +1,131 @@
+package com.englishapp.api_server.game.catalog;
+
+import com.englishapp.api_server.game.repository.WordDetailRepository;
+import com.englishapp.api_server.util.RandomSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * MysteryCards용 WordDetail ID 인덱스
+ * 단어(content) 기준으로 중복을 제거한 detail_id만 원시 배열로 보관하므로,
+ * 여기서 뽑은 ID들은 서로 다른 단어임이 보장됨 (정답/오답 중복 검사 불필요)
+ * 적재 시 유사 단어 인덱스(ConfusableIndex)도 함께 구축하여 오답 후보를 미리 계산해 둠
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WordDetailCatalog {
+
+    private final WordDetailRepository wordDetailRepository;
+
+    private volatile long[] detailIds = new long[0];
+    private volatile ConfusableIndex confusableIndex = new ConfusableIndex();
+
+    // 갱신 작업 전용 상태 (synchronized 메서드 안에서만 접근)
+    private Set<String> loadedContents = new HashSet<>();
+    private long lastDetailId = 0L;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("WordDetail 인덱스 초기 적재 실패", e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return detailIds.length == 0;
+    }
+
+    public int size() {
+        return detailIds.length;
+    }
+
+    // 전체 재적재 (수정, 삭제 반영) - 조회가 모두 끝난 뒤에 상태를 교체
+    @Scheduled(cron = "${game.catalog.reload-cron:0 30 4 * * *}")
+    public synchronized void reload() {
+
+        List<WordDetailRepository.DetailKey> keys = wordDetailRepository.findDetailKeysAfter(0L);
+        Set<String> contents = new HashSet<>();
+        ConfusableIndex index = new ConfusableIndex();
+        long[] ids = appendKeys(new long[0], keys, contents, index);
+
+        loadedContents = contents;
+        confusableIndex = index;
+        lastDetailId = keys.isEmpty() ? 0L : keys.get(keys.size() - 1).getDetailId();
+        detailIds = ids;
+
+        log.info("WordDetail 인덱스 전체 적재 완료: {}건", ids.length);
+    }
+
+    // 증분 갱신 (마지막 detail_id 이후 추가분만 조회)
+    @Scheduled(fixedDelayString = "${game.catalog.refresh-interval-ms:60000}",
+               initialDelayString = "${game.catalog.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+
+        List<WordDetailRepository.DetailKey> keys = wordDetailRepository.findDetailKeysAfter(lastDetailId);
+        if (keys.isEmpty()) return;
+
+        long[] current = detailIds;
+        long[] updated = appendKeys(current, keys, loadedContents, confusableIndex);
+
+        lastDetailId = keys.get(keys.size() - 1).getDetailId();
+        detailIds = updated;
+        log.info("WordDetail 인덱스 증분 갱신: {}건 추가 (총 {}건)", updated.length - current.length, updated.length);
+    }
+
+    /**
+     * 서로 다른 단어의 detail_id를 count개 무작위 추출 (부분 Fisher–Yates, O(count))
+     *
+     * @return 추출 순서가 유지된 detail_id 배열 (인덱스가 부족하면 있는 만큼만 반환)
+     */
+    public long[] sample(int count, Random random) {
+
+        long[] ids = detailIds;
+        int[] picked = RandomSampler.sample(ids.length, count, random);
+
+        long[] result = new long[picked.length];
+        for (int i = 0; i < picked.length; i++) {
+            result[i] = ids[picked[i]];
+        }
+        return result;
+    }
+
+    /**
+     * 정답 단어와 철자/설명이 비슷한 단어의 detail_id (유사도 높은 순)
+     * 적재 시점에 계산해 둔 목록을 그대로 반환하므로 O(1)
+     */
+    public long[] confusablesOf(long detailId) {
+        return confusableIndex.confusablesOf(detailId);
+    }
+
+    /* 헬퍼 메소드 */
+    // 같은 단어가 여러 행에 있으면 처음 것만 사용
+    private long[] appendKeys(long[] base, List<WordDetailRepository.DetailKey> keys,
+                              Set<String> contents, ConfusableIndex index) {
+
+        long[] result = Arrays.copyOf(base, base.length + keys.size());
+        int size = base.length;
+
+        for (WordDetailRepository.DetailKey key : keys) {
+            if (contents.add(key.getContent().toLowerCase(Locale.ROOT))) {
+                result[size++] = key.getDetailId();
+                index.add(key.getDetailId(), key.getContent(), key.getDescription());
+            }
+        }
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+}
@@ -1,35 +1,141 @@
 package com.englishapp.api_server.game.controller;
 
+import com.englishapp.api_server.game.catalog.GameRegistry;
+import com.englishapp.api_server.game.domain.GameContentFormat;
 import com.englishapp.api_server.game.domain.GameLevel;
 import com.englishapp.api_server.game.dto.request.GameScoreRequest;
+import com.englishapp.api_server.game.dto.request.GameSessionRequest;
+import com.englishapp.api_server.game.dto.response.FallingWordsDto;
 import com.englishapp.api_server.game.dto.response.GameContentResponse;
+import com.englishapp.api_server.game.dto.response.GameInfoResponse;
 import com.englishapp.api_server.game.dto.response.GameScoreResponse;
+import com.englishapp.api_server.game.dto.response.GameSessionResponse;
+import com.englishapp.api_server.game.dto.response.LeaderboardEntryResponse;
 import com.englishapp.api_server.game.service.GameContentService;
 import com.englishapp.api_server.game.service.GameScoreService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/games")
 @RequiredArgsConstructor
 public class GameController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final GameContentService gameContentService;
     private final GameScoreService gameScoreService;
+    private final GameRegistry gameRegistry;
+    private final ObjectMapper objectMapper;
+    private final GameStreamExecutor gameStreamExecutor;
+
+    // 게임 목록과 레벨별 설정 조회 (메모리 레지스트리)
+    @GetMapping
+    public ResponseEntity<List<GameInfoResponse>> getGames() {
+
+        List<GameInfoResponse> games = gameRegistry.getAll().stream()
+                .map(game -> GameInfoResponse.builder()
+                        .gameId(game.getId())
+                        .gameName(game.getGameName().name())
+                        .levels(game.getLevels())
+                        .build())
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(games);
+    }
 
     // 게임 플레이
+    // 압축 형식은 format=compact 또는 Accept: application/vnd.englishapp.compact+json 으로 요청
+    // seed를 지정하면 같은 시드끼리 같은 문제 (오늘의 도전, 반 전체가 같은 미로 플레이 등)
+    // rounds를 지정하면 같은 레벨 N라운드를 한 번에 (GameSessionResponse로 응답, seed와 함께 지정하면 400)
     @GetMapping("/{gameId}/playGame")
-    public ResponseEntity<GameContentResponse<?>> getGamePlayData(
+    public ResponseEntity<?> getGamePlayData(
             @PathVariable Long gameId,
-            @RequestParam(defaultValue = "FIRST") GameLevel level) {
+            @RequestParam(defaultValue = "FIRST") GameLevel level,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(required = false) Integer rounds,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
-        GameContentResponse<?> response = gameContentService.getGameData(gameId, level);
+        GameContentFormat contentFormat = GameContentFormat.resolve(format, accept);
+
+        if (rounds != null) {
+            // 최대 라운드 수는 서비스에서 검증
+            if (rounds <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "라운드 수는 1 이상이어야 합니다.");
+            }
+            // 여러 라운드는 시드 지정 생성을 지원하지 않음 (시드를 조용히 무시하면 같은 문제를 기대한 요청이 다른 문제를 받음)
+            if (seed != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "seed와 rounds는 함께 지정할 수 없습니다.");
+            }
+            GameSessionResponse session = gameContentService.getSessionData(
+                    gameId, Collections.nCopies(rounds, level), contentFormat);
+            return ResponseEntity.ok(session);
+        }
+
+        GameContentResponse<?> response = gameContentService.getGameData(gameId, level, contentFormat, seed);
         return ResponseEntity.ok(response);
     }
 
+    // 여러 라운드 일괄 조회 (라운드별 레벨 지정)
+    @PostMapping("/{gameId}/playSession")
+    public ResponseEntity<GameSessionResponse> getGameSessionData(
+            @PathVariable Long gameId,
+            @RequestBody GameSessionRequest request,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        GameContentFormat contentFormat = GameContentFormat.resolve(format, accept);
+        GameSessionResponse session = gameContentService.getSessionData(gameId, request.getLevels(), contentFormat);
+        return ResponseEntity.ok(session);
+    }
+
+    // FallingWords 무한 모드 - 단어를 한 줄에 하나씩(NDJSON) 계속 내려보냄
+    // 한 단어씩 써서 flush 하므로 클라이언트가 읽지 않으면 쓰기가 막히고(TCP 흐름 제어) 다음 단어도 뽑지 않음
+    // 전용 실행기에서 실행 (동시 스트림 수 제한, 가득 차면 503)
+    @GetMapping(value = "/{gameId}/playStream", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> streamGamePlayData(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "FIRST") GameLevel level,
+            HttpServletResponse response) {
+
+        // 게임/카탈로그 검증은 스트리밍 시작 전에 (오류면 일반 에러 응답)
+        Iterator<FallingWordsDto> words = gameContentService.streamFallingWords(gameId, level);
+
+        // 응답을 직접 씀 (HttpServletResponse를 받으면 작업이 끝난 뒤 별도 응답 처리를 하지 않음)
+        return gameStreamExecutor.task(() -> {
+            response.setContentType(NDJSON.toString());
+            OutputStream out = response.getOutputStream();
+            while (words.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(words.next()));
+                out.write('\n');
+                out.flush();  // 클라이언트가 첫 단어부터 바로 받을 수 있도록
+            }
+            return null;
+        });
+    }
+
+    // 스트리밍 전용 실행기가 가득 참
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Void> handleStreamRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+    }
+
     // 게임 플레이 후 점수 제출
     @PostMapping("/{gameId}/updateScore")
     public ResponseEntity<Void> submitScore(
@@ -49,4 +155,29 @@ public class GameController {
         List<GameScoreResponse> scores = gameScoreService.getUserGameScores(userId);
         return ResponseEntity.ok(scores);
     }
+
+    // 게임 순위표 상위 N명
+    @GetMapping("/{gameId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "10") int top) {
+
+        return ResponseEntity.ok(gameScoreService.getLeaderboard(gameId, top));
+    }
+
+    // 실시간 순위표 (SSE) - 연결 직후 snapshot, 이후 상위 순위가 바뀔 때마다 diff 이벤트
+    @GetMapping(value = "/{gameId}/leaderboard/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLeaderboard(@PathVariable Long gameId) {
+        return gameScoreService.subscribeLeaderboard(gameId);
+    }
+
+    // 사용자 순위 조회 (기록이 없으면 404)
+    @GetMapping("/{gameId}/rank/{userId}")
+    public ResponseEntity<LeaderboardEntryResponse> getUserRank(
+            @PathVariable Long gameId,
+            @PathVariable Long userId) {
+
+        LeaderboardEntryResponse rank = gameScoreService.getUserRank(gameId, userId);
+        return rank != null ? ResponseEntity.ok(rank) : ResponseEntity.notFound().build();
+    }
 }
@@ -0,0 +1,50 @@
+package com.englishapp.api_server.game.controller;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 스트리밍 응답(FallingWords 무한 모드) 전용 실행기
+ * - 연결 하나가 한 판 동안 스레드 하나를 잡으므로 공용 비동기 실행기와 분리하고 동시 스트림 수를 제한
+ * - 모두 사용 중이면 대기시키지 않고 바로 거절 (TaskRejectedException -> 컨트롤러에서 503)
+ * - 긴 제한 시간은 이 작업에만 적용 (다른 비동기 요청은 기본 제한 시간 그대로)
+ */
+@Component
+public class GameStreamExecutor {
+
+    @Value("${game.stream.max-concurrent:64}")
+    private int maxConcurrent;  // 동시에 열어둘 수 있는 스트림 수
+
+    @Value("${game.stream.timeout-ms:1800000}")
+    private long timeoutMs;  // 스트림 하나의 최대 유지 시간 (한 판)
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(0);  // 대기열 없음 - 여유 스레드가 없으면 바로 거절
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("game-stream-");
+        executor.setDaemon(true);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 전용 실행기 + 스트림 제한 시간으로 비동기 작업 생성
+    public <T> WebAsyncTask<T> task(Callable<T> callable) {
+        return new WebAsyncTask<>(timeoutMs, executor, callable);
+    }
+}
@@ -0,0 +1,21 @@
+package com.englishapp.api_server.game.domain;
+
+// 게임 데이터 응답 형식
+public enum GameContentFormat {
+
+    DEFAULT,  // 기존 형식 (미로: 2차원 정수 배열, 퍼즐: 2차원 문자열 배열)
+    COMPACT;  // 압축 형식 (미로: 2bit 패킹 base64 문자열, 퍼즐: 행별 문자열)
+
+    public static final String COMPACT_MEDIA_TYPE = "application/vnd.englishapp.compact+json";
+
+    // 쿼리 파라미터(format=compact)가 우선, 없으면 Accept 헤더로 판단
+    public static GameContentFormat resolve(String format, String accept) {
+        if (format != null && !format.isBlank()) {
+            return "compact".equalsIgnoreCase(format) ? COMPACT : DEFAULT;
+        }
+        if (accept != null && accept.contains(COMPACT_MEDIA_TYPE)) {
+            return COMPACT;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,38 @@
+package com.englishapp.api_server.game.domain;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 게임별, 레벨별 설정 (불변)
+@Getter
+public class LevelSettings {
+
+    private final int timeLimit;  // 제한 시간(초), 0이면 프론트에서 제어
+    private final int itemCount;  // 한 판에 내려보낼 문제/단어 수 (미로, 퍼즐은 1)
+
+    public LevelSettings(int timeLimit, int itemCount) {
+        this.timeLimit = timeLimit;
+        this.itemCount = itemCount;
+    }
+
+    // 게임별 기본 설정 (FIRST ~ FIFTH 순서)
+    public static Map<GameLevel, LevelSettings> defaultsOf(GameName gameName) {
+        switch (gameName) {
+            case FALLINGWORDS:  return byLevel(new int[]{0, 0, 0, 0, 0}, new int[]{15, 20, 20, 25, 30});
+            case MYSTERYCARDS:  return byLevel(new int[]{20, 15, 10, 20, 20}, new int[]{10, 15, 20, 10, 10});
+            default:            return byLevel(new int[]{0, 0, 0, 0, 0}, new int[]{1, 1, 1, 1, 1});
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    private static Map<GameLevel, LevelSettings> byLevel(int[] timeLimits, int[] itemCounts) {
+        Map<GameLevel, LevelSettings> settings = new EnumMap<>(GameLevel.class);
+        for (GameLevel level : GameLevel.values()) {
+            settings.put(level, new LevelSettings(timeLimits[level.ordinal()], itemCounts[level.ordinal()]));
+        }
+        return Collections.unmodifiableMap(settings);
+    }
+}
@@ -0,0 +1,24 @@
+package com.englishapp.api_server.game.domain;
+
+// FallingWords 난이도 구간 (길이 구간 x 단어/구 여부)
+public enum WordBucket {
+
+    SHORT_WORD,     // 공백 없음, 7자 이하
+    MEDIUM_WORD,    // 공백 없음, 8 ~ 10자
+    LONG_WORD,      // 공백 없음, 11자 이상
+    SHORT_PHRASE,   // 공백 포함, 7자 이하
+    MEDIUM_PHRASE,  // 공백 포함, 8 ~ 10자
+    LONG_PHRASE;    // 공백 포함, 11자 이상
+
+    public static final int SHORT_MAX_LENGTH = 7;
+    public static final int MEDIUM_MAX_LENGTH = 10;
+
+    public static WordBucket of(String content) {
+        int length = content.length();
+        boolean isPhrase = content.indexOf(' ') >= 0;
+
+        if (length <= SHORT_MAX_LENGTH) return isPhrase ? SHORT_PHRASE : SHORT_WORD;
+        if (length <= MEDIUM_MAX_LENGTH) return isPhrase ? MEDIUM_PHRASE : MEDIUM_WORD;
+        return isPhrase ? LONG_PHRASE : LONG_WORD;
+    }
+}
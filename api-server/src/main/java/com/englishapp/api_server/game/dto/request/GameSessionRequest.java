@@ -0,0 +1,12 @@
+package com.englishapp.api_server.game.dto.request;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class GameSessionRequest {
+
+    private List<GameLevel> levels;  // 라운드별 레벨 (순서대로 생성)
+}
@@ -0,0 +1,17 @@
+package com.englishapp.api_server.game.dto.response;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.LevelSettings;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class GameInfoResponse {
+
+    private Long gameId;
+    private String gameName;
+    private Map<GameLevel, LevelSettings> levels;  // 레벨별 제한 시간, 문제 수
+}
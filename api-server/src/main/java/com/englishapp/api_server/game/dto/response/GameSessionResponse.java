@@ -0,0 +1,14 @@
+package com.englishapp.api_server.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GameSessionResponse {
+
+    private String gameType;
+    private List<GameContentResponse<?>> rounds;  // 요청한 레벨 순서대로의 라운드별 데이터
+}
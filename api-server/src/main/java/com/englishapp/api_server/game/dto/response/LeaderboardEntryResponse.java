@@ -0,0 +1,17 @@
+package com.englishapp.api_server.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class LeaderboardEntryResponse {
+
+    private int rank;
+    private Long userId;
+    private String username;
+    private int highScore;
+    private LocalDateTime playedAt;  // 최고 기록 달성 시각
+}
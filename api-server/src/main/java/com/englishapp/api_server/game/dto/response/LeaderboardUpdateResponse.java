@@ -0,0 +1,16 @@
+package com.englishapp.api_server.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 실시간 순위표 이벤트 (snapshot: 구독 직후 상위 N명 전체, diff: 직전 전송 이후 바뀐 순위만)
+@Getter
+@Builder
+public class LeaderboardUpdateResponse {
+
+    private Long gameId;
+    private List<LeaderboardEntryResponse> changed;  // 순위/점수가 바뀌었거나 새로 들어온 항목 (값은 항상 최신 전체 값)
+    private List<Long> removed;                      // 상위 N명 밖으로 밀려난 userId
+}
@@ -1,6 +1,7 @@
 package com.englishapp.api_server.game.dto.response;
 
 import com.englishapp.api_server.game.domain.MazeItemType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,9 +21,14 @@ public class MazeAdventureResponse {
     // 시작 위치 (내부 클래스 활용)
     private Position startPosition;
 
-    // 지형 데이터 (0: 길, 1: 벽, 3: 출구)
+    // 지형 데이터 (0: 길, 1: 벽, 3: 출구) - 압축 형식 요청 시 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<List<Integer>> grid;
 
+    // 압축 형식 지형 데이터 - 칸마다 2bit, 행 우선, 바이트 안에서는 상위 비트부터 채운 뒤 base64 인코딩
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String packedGrid;
+
     // 아이템 리스트 (내부 클래스 활용)
     private List<Item> items;
 
@@ -1,5 +1,6 @@
 package com.englishapp.api_server.game.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,10 +10,16 @@ import java.util.List;
 @Builder
 public class WordPuzzleDto {
 
+    public static final char BLANK = '.';  // 압축 형식 그리드의 빈 칸 문자
+
     private int level;
     private int gridSize;
     private List<CrossWordDto> words;
-    private List<List<String>> grid;  // 디버깅용 2d 그리드
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<List<String>> grid;  // 디버깅용 2d 그리드 (압축 형식 요청 시 생략)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> rows;        // 압축 형식 그리드 - 한 행을 문자열 하나로, 빈 칸은 BLANK 문자
 
     @Getter
     @Builder
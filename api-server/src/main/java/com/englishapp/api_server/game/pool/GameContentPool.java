@@ -0,0 +1,151 @@
+package com.englishapp.api_server.game.pool;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 레벨별로 미리 만들어 둔 게임 콘텐츠 풀
+ * 요청 스레드는 poll()로 꺼내기만 하고(대기 없음), 남은 수가 기준(lowWaterMark) 아래로 내려가면
+ * 백그라운드 스레드가 capacity까지 다시 채움
+ *
+ * 메트릭 (tag: game, level)
+ * - game.pool.depth   : 현재 풀에 남은 수
+ * - game.pool.requests: 요청 결과 (result=hit/miss)
+ * - game.pool.refill  : 1건 생성 소요 시간
+ */
+@Slf4j
+public class GameContentPool<T> {
+
+    private final String gameName;
+    private final int capacity;
+    private final int lowWaterMark;
+    private final Function<GameLevel, T> generator;
+
+    private final Map<GameLevel, BlockingQueue<T>> queues = new EnumMap<>(GameLevel.class);
+    private final Map<GameLevel, AtomicBoolean> refilling = new EnumMap<>(GameLevel.class);
+    private final Map<GameLevel, Counter> hitCounters = new EnumMap<>(GameLevel.class);
+    private final Map<GameLevel, Counter> missCounters = new EnumMap<>(GameLevel.class);
+    private final Map<GameLevel, Timer> refillTimers = new EnumMap<>(GameLevel.class);
+
+    private final ExecutorService refillExecutor;
+
+    public GameContentPool(String gameName, int capacity, int lowWaterMark,
+                           Function<GameLevel, T> generator, MeterRegistry meterRegistry) {
+
+        this.gameName = gameName;
+        this.capacity = capacity;
+        this.lowWaterMark = lowWaterMark;
+        this.generator = generator;
+
+        for (GameLevel level : GameLevel.values()) {
+            BlockingQueue<T> queue = new ArrayBlockingQueue<>(capacity);
+            queues.put(level, queue);
+            refilling.put(level, new AtomicBoolean(false));
+
+            Gauge.builder("game.pool.depth", queue, BlockingQueue::size)
+                    .tag("game", gameName).tag("level", level.name())
+                    .register(meterRegistry);
+            hitCounters.put(level, Counter.builder("game.pool.requests")
+                    .tag("game", gameName).tag("level", level.name()).tag("result", "hit")
+                    .register(meterRegistry));
+            missCounters.put(level, Counter.builder("game.pool.requests")
+                    .tag("game", gameName).tag("level", level.name()).tag("result", "miss")
+                    .register(meterRegistry));
+            refillTimers.put(level, Timer.builder("game.pool.refill")
+                    .tag("game", gameName).tag("level", level.name())
+                    .register(meterRegistry));
+        }
+
+        // 생성 작업은 CPU 위주이므로 요청 스레드와 경쟁하지 않도록 단일 데몬 스레드로 처리
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-pool-" + gameName.toLowerCase());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 미리 만들어 둔 콘텐츠 하나를 꺼냄 (대기 없음)
+     *
+     * @return 풀이 비어있으면 null (호출 측에서 동기 생성으로 대체)
+     */
+    public T poll(GameLevel level) {
+
+        T item = queues.get(level).poll();
+        (item != null ? hitCounters : missCounters).get(level).increment();
+
+        if (queues.get(level).size() < lowWaterMark) {
+            requestRefill(level);
+        }
+        return item;
+    }
+
+    // 모든 레벨 채우기 (기동 시 예열용)
+    public void fillAll() {
+        for (GameLevel level : GameLevel.values()) {
+            requestRefill(level);
+        }
+    }
+
+    public int depth(GameLevel level) {
+        return queues.get(level).size();
+    }
+
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+        try {
+            refillExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    // 레벨별로 채우기 작업은 동시에 하나만 예약
+    private void requestRefill(GameLevel level) {
+
+        AtomicBoolean flag = refilling.get(level);
+        if (!flag.compareAndSet(false, true)) return;
+
+        try {
+            refillExecutor.execute(() -> refill(level, flag));
+        } catch (Exception e) {
+            flag.set(false);  // 종료 중이면 예약하지 않음
+        }
+    }
+
+    private void refill(GameLevel level, AtomicBoolean flag) {
+
+        BlockingQueue<T> queue = queues.get(level);
+        Timer timer = refillTimers.get(level);
+
+        try {
+            while (queue.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                long start = System.nanoTime();
+                T item = generator.apply(level);
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                if (!queue.offer(item)) break;
+            }
+        } catch (Exception e) {
+            // 단어 부족 등으로 생성이 실패하면 이번 채우기는 중단 (다음 요청 때 다시 시도)
+            log.warn("[{}] {} 레벨 풀 채우기 실패: {}", gameName, level, e.getMessage());
+        } finally {
+            flag.set(false);
+        }
+    }
+}
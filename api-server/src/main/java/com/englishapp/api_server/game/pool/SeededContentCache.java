@@ -0,0 +1,139 @@
+package com.englishapp.api_server.game.pool;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 시드 지정 생성 결과 캐시 (game, level, seed) -> 생성 결과
+ * 같은 시드로 요청하는 반 학생들(또는 오늘의 도전)은 첫 요청 1번만 생성하고 나머지는 같은 결과를 공유
+ * 동시에 들어온 같은 키 요청은 먼저 온 요청의 생성 완료를 기다림 (중복 생성 없음)
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ *
+ * 메트릭 (tag: game)
+ * - game.seed-cache.size    : 현재 보관 중인 항목 수
+ * - game.seed-cache.requests: 요청 결과 (result=hit/miss)
+ */
+@Component
+public class SeededContentCache {
+
+    private final int maxEntries;
+    private final Map<Key, CompletableFuture<Object>> entries;
+    private final MeterRegistry meterRegistry;
+
+    public SeededContentCache(@Value("${game.seed-cache.max-entries:500}") int maxEntries,
+                              MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.meterRegistry = meterRegistry;
+
+        // accessOrder = true -> 조회할 때마다 맨 뒤로 이동, 맨 앞이 가장 오래 안 쓴 항목
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<Object>> eldest) {
+                return size() > SeededContentCache.this.maxEntries;
+            }
+        };
+
+        Gauge.builder("game.seed-cache.size", this, SeededContentCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 generator로 생성해 저장
+     *
+     * @param generator 시드로 만든 Random을 사용하는 결정적 생성 로직 (같은 시드 -> 같은 결과)
+     * @return 생성 결과 (여러 요청이 같은 인스턴스를 공유하므로 변경하지 말 것)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(GameName game, GameLevel level, long seed, Supplier<T> generator) {
+
+        Key key = new Key(game, level, seed);
+        CompletableFuture<Object> future;
+        boolean owner = false;
+
+        synchronized (entries) {
+            future = entries.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(key, future);
+                owner = true;
+            }
+        }
+
+        counter(game, owner ? "miss" : "hit").increment();
+
+        // 생성은 lock 밖에서 (다른 키 요청을 막지 않음)
+        if (owner) {
+            try {
+                future.complete(generator.get());
+            } catch (Throwable e) {
+                // 실패한 결과는 남기지 않음 (다음 요청이 다시 시도)
+                // Error(StackOverflowError, OOM 등)도 여기서 처리해야 기다리는 요청이 끝나지 않는 future에 묶이지 않음
+                synchronized (entries) {
+                    entries.remove(key, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    private Counter counter(GameName game, String result) {
+        // 동일 이름/태그 조합은 레지스트리가 같은 인스턴스를 반환
+        return Counter.builder("game.seed-cache.requests")
+                .tag("game", game.name()).tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Key {
+
+        private final GameName game;
+        private final GameLevel level;
+        private final long seed;
+
+        Key(GameName game, GameLevel level, long seed) {
+            this.game = game;
+            this.level = level;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return game == other.game && level == other.level && seed == other.seed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(game, level, seed);
+        }
+    }
+}
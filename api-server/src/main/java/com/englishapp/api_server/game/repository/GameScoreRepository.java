@@ -1,11 +1,15 @@
 package com.englishapp.api_server.game.repository;
 
 import com.englishapp.api_server.entity.User;
+import com.englishapp.api_server.game.domain.GameName;
 import com.englishapp.api_server.game.entity.Game;
 import com.englishapp.api_server.game.entity.GameScore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,43 @@ public interface GameScoreRepository extends JpaRepository<GameScore, Long> {
 
     // 특정 유저의 게임 기록 조회 (쿼리를 사용하면 메서드 이름은 마음대로 지어도 됨 - 쿼리가 우선순위)
     List<GameScore> findAllByUser_Id(Long userId);
+
+    // 전체 최고 기록 적재용 (엔티티/연관관계 로딩 없이 필요한 컬럼만, 순위표 표시용 이름 포함)
+    @Query(value = "SELECT u.id AS userId, u.username AS username, gs.game.id AS gameId, " +
+                   "gs.highScore AS highScore, gs.playedAt AS playedAt " +
+                   "FROM GameScore gs JOIN gs.user u")
+    List<ScoreRow> findAllScoreRows();
+
+    // 특정 유저의 기록 + 게임 이름을 한 번에 (게임 엔티티 지연 로딩으로 인한 N+1 없음)
+    @Query(value = "SELECT g.id AS gameId, g.gameName AS gameName, " +
+                   "gs.highScore AS highScore, gs.playedAt AS playedAt " +
+                   "FROM GameScore gs JOIN gs.game g " +
+                   "WHERE gs.user.id = :userId")
+    List<UserScoreRow> findUserScoreRows(@Param("userId") Long userId);
+
+    // 적재용 Projection
+    interface ScoreRow {
+
+        Long getUserId();
+
+        String getUsername();
+
+        Long getGameId();
+
+        int getHighScore();
+
+        LocalDateTime getPlayedAt();
+    }
+
+    // 유저 기록 조회용 Projection
+    interface UserScoreRow {
+
+        Long getGameId();
+
+        GameName getGameName();
+
+        int getHighScore();
+
+        LocalDateTime getPlayedAt();
+    }
 }
@@ -6,18 +6,27 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface WordDetailRepository extends JpaRepository<WordDetail, Long> {
 
-    // 1. 문제를 낼 정답 데이터 N개 랜덤 조회 (Word 정보도 같이 가져옴 - Fetch Join / DISTINCT를 적용하여 중복된 word_id가 나오지 않게 함)
+    // 문제를 낼 정답 데이터 N개 랜덤 조회 (Word 정보도 같이 가져옴 - Fetch Join / DISTINCT를 적용하여 중복된 word_id가 나오지 않게 함)
     @Query(value = "SELECT DISTINCT wd FROM WordDetail wd JOIN FETCH wd.word ORDER BY RAND() LIMIT :limit")
     List<WordDetail> findRandomQuestions(@Param("limit") int limit);
 
-    // 2. 오답용 보기 데이터 M개 랜덤 조회 (정답과 겹치지 않게 로직 처리 필요하지만, 일단 랜덤으로 가져옴)
-    @Query(value = "SELECT DISTINCT wd FROM WordDetail wd JOIN FETCH wd.word ORDER BY RAND() LIMIT :limit")
-    List<WordDetail> findRandomDistractors(@Param("limit") int limit);
+    /* MysteryCards 추출/유사 단어 인덱스 적재용 (엔티티 대신 필요한 컬럼만 조회, 마지막 ID 이후 증분 조회) */
+    @Query(value = "SELECT wd.detailId AS detailId, w.content AS content, wd.description AS description " +
+                   "FROM WordDetail wd " +
+                   "JOIN wd.word w " +
+                   "WHERE wd.detailId > :lastId " +
+                   "ORDER BY wd.detailId")
+    List<DetailKey> findDetailKeysAfter(@Param("lastId") Long lastId);
+
+    // 인덱스에서 뽑은 ID들을 한 번에 조회 (WHERE detail_id IN (...), Word 함께 Fetch Join)
+    @Query(value = "SELECT wd FROM WordDetail wd JOIN FETCH wd.word WHERE wd.detailId IN :ids")
+    List<WordDetail> findAllWithWordByDetailIdIn(@Param("ids") Collection<Long> ids);
 
     /* CrossWordPuzzle 용 */
     @Query(value = "SELECT wd FROM WordDetail wd " +
@@ -27,4 +36,22 @@ public interface WordDetailRepository extends JpaRepository<WordDetail, Long> {
                   "ORDER BY RAND() LIMIT :limit")
     List<WordDetail> findRandomWordsForCrossword(@Param("maxLength") int maxLength,
                                                  @Param("limit") int limit);
+
+    // 시드 지정 생성용 - 후보 ID 전체를 고정 순서로 조회 (추출은 시드 Random으로 애플리케이션에서 수행)
+    @Query(value = "SELECT wd.detailId FROM WordDetail wd " +
+                   "JOIN wd.word w " +
+                   "WHERE CHAR_LENGTH(w.content) <= :maxLength " +
+                   "AND w.content NOT LIKE '% %' " +
+                   "ORDER BY wd.detailId")
+    List<Long> findCrosswordCandidateIds(@Param("maxLength") int maxLength);
+
+    // 인덱스 적재용 Projection
+    interface DetailKey {
+
+        Long getDetailId();
+
+        String getContent();
+
+        String getDescription();
+    }
 }
@@ -0,0 +1,151 @@
+package com.englishapp.api_server.game.score;
+
+import com.englishapp.api_server.game.dto.response.LeaderboardEntryResponse;
+import com.englishapp.api_server.game.repository.GameScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게임별 순위표 (메모리)
+ * 기동 시 game_scores 전체로 만들고, 이후에는 점수 제출 시 최고 기록이 갱신될 때마다 반영
+ * 게임마다 순위 트리(RankedScoreTree) 하나 - 상위 N명 / 특정 사용자 순위를 DB 조회 없이 O(log n)에 응답
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GameLeaderboard {
+
+    private final GameScoreRepository gameScoreRepository;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+    // 순위표 표시용 이름 (userId -> username)
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            int count = 0;
+            for (GameScoreRepository.ScoreRow row : gameScoreRepository.findAllScoreRows()) {
+                update(row.getGameId(), row.getUserId(), row.getUsername(), row.getHighScore(), row.getPlayedAt());
+                count++;
+            }
+            log.info("게임 순위표 적재 완료: {}개 게임, {}건", boards.size(), count);
+        } catch (Exception e) {
+            log.error("게임 순위표 적재 실패", e);
+        }
+    }
+
+    /**
+     * 기록 반영 - 기존 기록보다 높을 때만 순위 변경 (적재와 제출이 겹쳐도 결과가 같음)
+     *
+     * @param username 처음 보는 사용자일 때만 필요 (null이면 기존 이름 유지)
+     * @return 반영 후 순위 (1부터, 기존 기록보다 낮아 반영하지 않았으면 0)
+     */
+    public int update(long gameId, long userId, String username, int score, LocalDateTime achievedAt) {
+        if (username != null) usernames.put(userId, username);
+        return boards.computeIfAbsent(gameId, id -> new Board()).update(userId, score, achievedAt);
+    }
+
+    // 상위 top명 (순위 1부터)
+    public List<LeaderboardEntryResponse> top(long gameId, int top) {
+
+        Board board = boards.get(gameId);
+        if (board == null || top <= 0) return List.of();
+
+        List<RankedScoreTree.Entry> entries = board.top(top);
+        List<LeaderboardEntryResponse> rankings = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            rankings.add(toResponse(i + 1, entries.get(i)));
+        }
+        return rankings;
+    }
+
+    // 사용자 순위 (기록이 없으면 null)
+    public LeaderboardEntryResponse rankOf(long gameId, long userId) {
+
+        Board board = boards.get(gameId);
+        return board == null ? null : board.rankOf(userId);
+    }
+
+    // 게임 참여자 수
+    public int size(long gameId) {
+        Board board = boards.get(gameId);
+        return board == null ? 0 : board.size();
+    }
+
+    /* 헬퍼 메소드 */
+    private LeaderboardEntryResponse toResponse(int rank, RankedScoreTree.Entry entry) {
+        return LeaderboardEntryResponse.builder()
+                .rank(rank)
+                .userId(entry.getUserId())
+                .username(usernames.get(entry.getUserId()))
+                .highScore(entry.getScore())
+                .playedAt(entry.getAchievedAt())
+                .build();
+    }
+
+    // 게임 하나의 순위표 - 트리와 userId 색인을 같은 잠금으로 보호 (조회끼리는 동시에)
+    private final class Board {
+
+        private final RankedScoreTree tree = new RankedScoreTree();
+        private final Map<Long, RankedScoreTree.Entry> byUser = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        int update(long userId, int score, LocalDateTime achievedAt) {
+            lock.writeLock().lock();
+            try {
+                RankedScoreTree.Entry previous = byUser.get(userId);
+                if (previous != null) {
+                    if (score <= previous.getScore()) return 0;
+                    tree.remove(previous);
+                }
+                RankedScoreTree.Entry entry = new RankedScoreTree.Entry(userId, score, achievedAt);
+                tree.insert(entry);
+                byUser.put(userId, entry);
+                return tree.indexOf(entry) + 1;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<RankedScoreTree.Entry> top(int limit) {
+            lock.readLock().lock();
+            try {
+                return tree.top(limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        LeaderboardEntryResponse rankOf(long userId) {
+            lock.readLock().lock();
+            try {
+                RankedScoreTree.Entry entry = byUser.get(userId);
+                return entry == null ? null : toResponse(tree.indexOf(entry) + 1, entry);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return tree.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.englishapp.api_server.game.score;
+
+import com.englishapp.api_server.game.dto.response.LeaderboardEntryResponse;
+import com.englishapp.api_server.game.dto.response.LeaderboardUpdateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 순위표 (SSE)
+ * - 점수 제출로 상위 N명이 바뀌면 게임을 dirty로 표시만 하고, 주기마다 한 번 직전 전송분과 비교한 diff를 만듦
+ *   (그 사이 여러 번 바뀌어도 diff는 한 번)
+ * - diff는 한 번만 JSON 문자열로 직렬화해서 모든 구독자에게 같은 문자열을 보냄
+ * - 구독자별로 보낼 이벤트를 순서대로 모아두고, 전송 스레드는 구독자 하나의 이벤트를 한 번에 하나씩 보냄
+ * - 느린 클라이언트 판단은 전송 스레드를 기다린 시간이 아니라 실제 전송(소켓 쓰기)에 걸린 시간으로
+ *   전송 하나가 send-timeout-ms를 넘기거나 대기 이벤트가 쌓이면 연결을 끊고 전송 스레드를 풀어줌
+ *   (diff를 놓친 클라이언트는 다시 연결해서 snapshot부터 받으면 됨)
+ *
+ * 메트릭
+ * - game.leaderboard.live.subscribers : 현재 구독자 수
+ * - game.leaderboard.live.dropped     : 느려서 끊은 구독자 수
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardBroadcaster {
+
+    private static final int MAX_OUTBOX = 8;  // 구독자별 대기 이벤트 수 (넘으면 따라오지 못하는 것으로 보고 끊음)
+
+    private final GameLeaderboard gameLeaderboard;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.leaderboard.live.top:10}")
+    private int liveTop;  // 실시간으로 보여줄 상위 인원
+
+    @Value("${game.leaderboard.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${game.leaderboard.live.send-threads:4}")
+    private int sendThreads;
+
+    @Value("${game.leaderboard.live.send-timeout-ms:5000}")
+    private long sendTimeoutMs;  // 이벤트 하나를 보내는 데 허용하는 시간 (소켓 쓰기가 이보다 오래 막히면 끊음)
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService sendExecutor;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-sse-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("game.leaderboard.live.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+        droppedCounter = Counter.builder("game.leaderboard.live.dropped").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    // 구독 - 연결 직후 현재 상위 N명을 snapshot 이벤트로 보냄
+    public SseEmitter subscribe(long gameId) {
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Channel channel = channels.computeIfAbsent(gameId, Channel::new);
+        Subscriber subscriber = new Subscriber(channel, emitter);
+
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(e -> subscriber.remove());
+
+        // publish와 겹치지 않게 - snapshot 이후의 변경은 반드시 다음 diff에 포함됨
+        synchronized (channel) {
+            List<LeaderboardEntryResponse> top = gameLeaderboard.top(gameId, liveTop);
+            LeaderboardUpdateResponse snapshot = LeaderboardUpdateResponse.builder()
+                    .gameId(gameId)
+                    .changed(top)
+                    .removed(List.of())
+                    .build();
+            try {
+                // 핸들러 초기화 전 전송은 emitter 내부에 보관됐다가 연결되면 바로 나감
+                emitter.send(SseEmitter.event().name("snapshot").data(serialize(snapshot), MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            channel.subscribers.add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+        return emitter;
+    }
+
+    // 점수 갱신 알림 (rank: 갱신 후 순위, 0이면 변화 없음) - 상위 N명 안의 변화만 전송 대상
+    public void onScoreUpdated(long gameId, int rank) {
+
+        if (rank <= 0 || rank > liveTop) return;
+
+        Channel channel = channels.get(gameId);
+        if (channel != null) channel.dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${game.leaderboard.live.interval-ms:1000}")
+    public void publish() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        for (Channel channel : channels.values()) {
+            // 전송 기한을 넘긴 구독자 정리 (막힌 소켓이 전송 스레드를 계속 잡고 있지 않도록)
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.isStuck(now, sendTimeoutNanos)) subscriber.drop();
+            }
+            if (channel.dirty.getAndSet(false)) {
+                publish(channel);
+            }
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    private void publish(Channel channel) {
+
+        synchronized (channel) {
+            List<LeaderboardEntryResponse> top = gameLeaderboard.top(channel.gameId, liveTop);
+            LeaderboardUpdateResponse diff = channel.diff(top);
+            if (diff == null || channel.subscribers.isEmpty()) return;
+
+            String payload;
+            try {
+                payload = serialize(diff);
+            } catch (IOException e) {
+                log.error("순위표 diff 직렬화 실패: gameId={}", channel.gameId, e);
+                return;
+            }
+
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.offer(payload);
+            }
+        }
+    }
+
+    private String serialize(LeaderboardUpdateResponse update) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(update);
+    }
+
+    // 게임 하나의 구독자 목록과 직전 전송 상태
+    private static final class Channel {
+
+        private final long gameId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        private Map<Long, LeaderboardEntryResponse> lastSent = Map.of();  // userId -> 항목 (channel lock 안에서만 사용)
+
+        Channel(long gameId) {
+            this.gameId = gameId;
+        }
+
+        // 직전 전송분과 비교해 바뀐 항목/빠진 항목 (바뀐 것이 없으면 null)
+        LeaderboardUpdateResponse diff(List<LeaderboardEntryResponse> top) {
+
+            Map<Long, LeaderboardEntryResponse> current = new HashMap<>();
+            List<LeaderboardEntryResponse> changed = new ArrayList<>();
+            for (LeaderboardEntryResponse entry : top) {
+                current.put(entry.getUserId(), entry);
+                LeaderboardEntryResponse previous = lastSent.get(entry.getUserId());
+                if (previous == null || previous.getRank() != entry.getRank()
+                        || previous.getHighScore() != entry.getHighScore()) {
+                    changed.add(entry);
+                }
+            }
+
+            List<Long> removed = new ArrayList<>();
+            for (Long userId : lastSent.keySet()) {
+                if (!current.containsKey(userId)) removed.add(userId);
+            }
+
+            lastSent = current;
+            if (changed.isEmpty() && removed.isEmpty()) return null;
+
+            return LeaderboardUpdateResponse.builder()
+                    .gameId(gameId)
+                    .changed(changed)
+                    .removed(removed)
+                    .build();
+        }
+    }
+
+    // 구독자 하나 - 대기 이벤트를 전송 스레드 하나가 순서대로 보냄 (구독자별로 동시에 하나의 전송만)
+    private final class Subscriber {
+
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final Queue<String> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger outboxSize = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean(false);  // 전송 작업이 제출/실행 중
+        private volatile boolean closed;
+
+        // 지금 보내고 있는 전송 (this lock 안에서만 변경 - 다른 구독자 전송 중인 스레드를 인터럽트하지 않도록)
+        private Thread sender;
+        private long sendStartedAt;  // System.nanoTime, 전송 중이 아니면 의미 없음
+
+        Subscriber(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        // 이벤트 추가 - 스케줄러 스레드에서 호출되므로 막히는 작업(emitter 호출)은 하지 않음
+        void offer(String payload) {
+
+            if (closed) return;
+            if (outboxSize.incrementAndGet() > MAX_OUTBOX) {
+                drop();
+                return;
+            }
+            outbox.add(payload);
+            schedule();
+        }
+
+        // 전송 하나가 기한을 넘겼는지 (전송 스레드를 기다리는 시간은 포함하지 않음)
+        synchronized boolean isStuck(long now, long sendTimeoutNanos) {
+            return sender != null && now - sendStartedAt > sendTimeoutNanos;
+        }
+
+        // 느린 클라이언트 연결 종료 - 전송 중이면 인터럽트해서 전송 스레드를 풀어줌
+        // emitter 종료는 전송 작업에서 (막힌 send와 같은 lock을 기다리지 않도록)
+        void drop() {
+
+            if (closed) return;
+            closed = true;
+            droppedCounter.increment();
+            remove();
+
+            synchronized (this) {
+                if (sender != null) sender.interrupt();
+            }
+            schedule();
+        }
+
+        void remove() {
+            closed = true;
+            // 등록된 적이 있을 때만 한 번 (완료/타임아웃/에러 콜백이 겹쳐도)
+            if (channel.subscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) return;  // 실행 중인 전송 작업이 이어서 처리
+
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (Exception e) {
+                draining.set(false);  // 종료 중
+            }
+        }
+
+        private void drain() {
+
+            try {
+                String payload;
+                while (!closed && (payload = outbox.poll()) != null) {
+                    outboxSize.decrementAndGet();
+                    send(payload);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나, 이미 종료된 emitter이거나, 전송 기한 초과로 인터럽트됨
+                remove();
+                emitter.completeWithError(e);
+            } finally {
+                Thread.interrupted();  // 전송 기한 초과로 걸린 인터럽트가 다음 작업에 남지 않도록 (공용 스레드)
+                draining.set(false);
+
+                if (closed) {
+                    outbox.clear();
+                    emitter.complete();
+                } else if (!outbox.isEmpty()) {
+                    schedule();  // 작업 종료 직전에 들어온 이벤트
+                }
+            }
+        }
+
+        private void send(String payload) throws IOException {
+
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                emitter.send(SseEmitter.event().name("diff").data(payload, MediaType.APPLICATION_JSON));
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.englishapp.api_server.game.score;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 트리 (Order-Statistic Treap)
+ * 노드마다 서브트리 크기를 유지해 삽입/삭제/순위 조회/상위 N개 조회를 모두 O(log n) (+N)에 처리
+ * 정렬 기준: 점수 내림차순 -> 달성 시각 오름차순(먼저 달성한 사람이 위, 시각 없으면 맨 뒤) -> userId 오름차순
+ * 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+public class RankedScoreTree {
+
+    public static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::getScore).reversed()
+            .thenComparing(Entry::getAchievedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(Entry::getUserId);
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    public int size() {
+        return size(root);
+    }
+
+    public void insert(Entry entry) {
+        root = insert(root, new Node(entry, random.nextInt()));
+    }
+
+    // 트리에 있는 항목과 같은 값(userId, 점수, 시각)을 넘겨야 함
+    public void remove(Entry entry) {
+        root = remove(root, entry);
+    }
+
+    // 0부터 시작하는 순위 = 앞에 있는 항목 수
+    public int indexOf(Entry entry) {
+
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = ORDER.compare(entry, node.entry);
+            if (cmp == 0) return index + size(node.left);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    // 상위 limit개 (순위 순)
+    public List<Entry> top(int limit) {
+
+        List<Entry> result = new ArrayList<>(Math.min(limit, size()));
+        // 중위 순회를 스택으로 (재귀 없이), limit개를 채우면 중단
+        List<Node> stack = new ArrayList<>();
+        Node node = root;
+        while ((node != null || !stack.isEmpty()) && result.size() < limit) {
+            while (node != null) {
+                stack.add(node);
+                node = node.left;
+            }
+            node = stack.remove(stack.size() - 1);
+            result.add(node.entry);
+            node = node.right;
+        }
+        return result;
+    }
+
+    /* 헬퍼 메소드 */
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node insert(Node node, Node added) {
+
+        if (node == null) return added;
+
+        if (ORDER.compare(added.entry, node.entry) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node remove(Node node, Entry entry) {
+
+        if (node == null) return null;
+
+        int cmp = ORDER.compare(entry, node.entry);
+        if (cmp < 0) {
+            node.left = remove(node.left, entry);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, entry);
+        } else {
+            // 자식 두 개를 우선순위 순으로 합침
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    // left의 모든 항목 < right의 모든 항목
+    private static Node merge(Node left, Node right) {
+
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    private static final class Node {
+
+        private final Entry entry;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(Entry entry, int priority) {
+            this.entry = entry;
+            this.priority = priority;
+        }
+
+        void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+
+    // 순위 항목 (불변)
+    public static final class Entry {
+
+        private final long userId;
+        private final int score;
+        private final LocalDateTime achievedAt;
+
+        public Entry(long userId, int score, LocalDateTime achievedAt) {
+            this.userId = userId;
+            this.score = score;
+            this.achievedAt = achievedAt;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public LocalDateTime getAchievedAt() {
+            return achievedAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.englishapp.api_server.game.score;
+
+import java.util.Objects;
+
+// (userId, gameId) 맵 키 - game_scores의 uk_user_game과 같은 단위
+public final class ScoreKey {
+
+    private final long userId;
+    private final long gameId;
+
+    public ScoreKey(long userId, long gameId) {
+        this.userId = userId;
+        this.gameId = gameId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScoreKey)) return false;
+        ScoreKey other = (ScoreKey) o;
+        return userId == other.userId && gameId == other.gameId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, gameId);
+    }
+}
@@ -0,0 +1,327 @@
+package com.englishapp.api_server.game.score;
+
+import com.englishapp.api_server.game.repository.GameScoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게임 점수 Write-Behind 버퍼
+ * - (userId, gameId)별 최고 기록을 메모리에 두고, 기록을 넘지 못한 점수는 DB에 가지 않고 바로 버림
+ * - 갱신된 기록만 모아두었다가 주기적으로(또는 일정 수가 쌓이면) INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 일괄 반영
+ * - 종료 시 남은 기록을 모두 반영
+ * - 묶음 반영이 실패하면 반으로 나눠 다시 시도하고, 혼자서도 실패하는 행(삭제된 사용자 등)은 버림
+ *   DB 연결 문제처럼 행과 무관한 실패는 버리지 않고 다음 주기에 재시도 (그동안 조기 반영은 멈춤)
+ * DB 쪽도 GREATEST로 비교하므로 서버가 여러 대이거나 메모리 기록이 뒤처져도 최고 기록이 낮아지지 않음
+ *
+ * 메트릭
+ * - game.score.pending              : 반영 대기 중인 기록 수
+ * - game.score.submissions(result)  : improved / discarded
+ * - game.score.flushed              : DB에 반영한 행 수
+ * - game.score.dropped              : 혼자서도 반영에 실패해 버린 행 수
+ */
+@Component
+@Slf4j
+public class ScoreWriteBuffer {
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO game_scores (user_id, game_id, high_score, played_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?)";
+    // 행 별칭(new)으로 새 값을 참조 (VALUES() 함수는 MySQL 8.0.20부터 deprecated, 8.0.19 이상 필요)
+    // played_at을 먼저 비교해야 함 (MySQL은 SET 절을 왼쪽부터 적용하므로 high_score를 먼저 바꾸면 비교가 틀어짐)
+    private static final String UPSERT_SUFFIX =
+            " AS new ON DUPLICATE KEY UPDATE " +
+            "played_at = IF(new.high_score > high_score, new.played_at, played_at), " +
+            "high_score = GREATEST(high_score, new.high_score)";
+
+    private final GameScoreRepository gameScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 지금까지 알려진 최고 기록 (DB 반영 여부와 무관)
+    private final Map<ScoreKey, Integer> bestScores = new ConcurrentHashMap<>();
+    // 아직 DB에 반영하지 않은 갱신 기록
+    private final Map<ScoreKey, PendingScore> pending = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean overloaded = new AtomicBoolean(false);  // 대기 기록이 max-pending을 넘은 상태 (경고는 넘을 때 1번)
+    private volatile boolean dbUnavailable;  // 마지막 반영이 DB 문제로 중단됨 -> 다음 주기까지 조기 반영 안 함
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-score-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${game.score.flush-batch-size:500}")
+    private int batchSize;  // 이 수만큼 쌓이면 주기를 기다리지 않고 반영, 한 문장에 담는 최대 행 수
+
+    @Value("${game.score.max-pending:100000}")
+    private int maxPending;  // 대기 기록이 이 수를 넘으면 경고 (DB 반영이 밀리고 있음)
+
+    private volatile boolean loaded;
+
+    private Counter improvedCounter;
+    private Counter discardedCounter;
+    private Counter flushedCounter;
+    private Counter droppedCounter;
+
+    public ScoreWriteBuffer(GameScoreRepository gameScoreRepository, JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry) {
+        this.gameScoreRepository = gameScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void initMetrics() {
+        Gauge.builder("game.score.pending", pending, Map::size).register(meterRegistry);
+        improvedCounter = Counter.builder("game.score.submissions").tag("result", "improved").register(meterRegistry);
+        discardedCounter = Counter.builder("game.score.submissions").tag("result", "discarded").register(meterRegistry);
+        flushedCounter = Counter.builder("game.score.flushed").register(meterRegistry);
+        droppedCounter = Counter.builder("game.score.dropped").register(meterRegistry);
+    }
+
+    // 기존 최고 기록 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            for (GameScoreRepository.ScoreRow row : gameScoreRepository.findAllScoreRows()) {
+                bestScores.merge(new ScoreKey(row.getUserId(), row.getGameId()), row.getHighScore(), Math::max);
+            }
+            loaded = true;
+            log.info("게임 최고 기록 적재 완료: {}건", bestScores.size());
+        } catch (Exception e) {
+            // 적재 전에는 모든 점수를 반영 대상으로 처리 (DB의 GREATEST가 최종 판단)
+            log.error("게임 최고 기록 적재 실패", e);
+        }
+    }
+
+    /**
+     * 점수 제출 - 최고 기록을 넘을 때만 반영 대기열에 올림
+     *
+     * @return 갱신된 기록 (최고 기록을 넘지 못했으면 null)
+     */
+    public PendingScore submit(long userId, long gameId, int score) {
+
+        ScoreKey key = new ScoreKey(userId, gameId);
+        boolean[] improved = {false};
+
+        // 키 단위로 원자적으로 비교/갱신
+        bestScores.compute(key, (k, best) -> {
+            if (best != null && score <= best) return best;
+            improved[0] = true;
+            return score;
+        });
+
+        if (!improved[0]) {
+            discardedCounter.increment();
+            return null;
+        }
+
+        PendingScore record = new PendingScore(score, LocalDateTime.now());
+        pending.merge(key, record, PendingScore::higher);
+        improvedCounter.increment();
+
+        int pendingCount = pending.size();
+        if (pendingCount >= maxPending) {
+            if (overloaded.compareAndSet(false, true)) {
+                log.error("반영 대기 중인 게임 기록이 {}건을 넘음 (DB 반영 지연)", maxPending);
+            }
+        } else {
+            overloaded.set(false);
+        }
+
+        // DB 문제로 반영이 멈춘 동안에는 제출마다 반영을 재촉하지 않음 (주기 반영에 맡김)
+        if (pendingCount >= batchSize && !dbUnavailable) {
+            requestFlush();
+        }
+        return record;
+    }
+
+    // 메모리상 최고 기록 (없으면 null)
+    public Integer bestScore(long userId, long gameId) {
+        return bestScores.get(new ScoreKey(userId, gameId));
+    }
+
+    // 적재 후 기록이 있는 키인지 (기록이 있으면 사용자/게임 존재가 이미 확인된 것)
+    public boolean hasRecord(long userId, long gameId) {
+        return loaded && bestScores.containsKey(new ScoreKey(userId, gameId));
+    }
+
+    // 특정 사용자의 아직 DB에 반영되지 않은 기록 (gameId -> 기록)
+    public Map<Long, PendingScore> pendingOf(long userId) {
+
+        Map<Long, PendingScore> result = new HashMap<>();
+        pending.forEach((key, record) -> {
+            if (key.getUserId() == userId) result.put(key.getGameId(), record);
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${game.score.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drain() {
+        flushExecutor.shutdown();
+
+        // 남은 기록을 모두 반영 (반영 실패 시 무한 반복하지 않도록 횟수 제한)
+        for (int attempt = 0; attempt < 3 && !pending.isEmpty(); attempt++) {
+            flush();
+        }
+        if (!pending.isEmpty()) {
+            log.error("종료 시 반영하지 못한 게임 기록: {}건", pending.size());
+        }
+    }
+
+    /**
+     * 대기 중인 기록을 batchSize 행씩 나눠 반영
+     * 기록은 DB 반영이 끝난 뒤에 대기열에서 지움 (반영 중에도 pendingOf로 보이도록)
+     * - 그 사이 더 높은 기록이 들어왔으면 지우지 않고 다음 주기에 반영
+     * - 특정 행 때문에 실패한 묶음은 나눠서 다시 반영하고, 혼자서도 실패하는 행은 버림
+     * - DB 문제로 실패하면 이번 반영을 멈추고 남은 기록은 다음 주기에 재시도
+     */
+    public synchronized void flush() {
+
+        if (pending.isEmpty()) {
+            dbUnavailable = false;
+            return;
+        }
+
+        List<ScoreKey> keys = new ArrayList<>(batchSize);
+        List<PendingScore> records = new ArrayList<>(batchSize);
+
+        for (Map.Entry<ScoreKey, PendingScore> entry : pending.entrySet()) {
+            keys.add(entry.getKey());
+            records.add(entry.getValue());
+            if (keys.size() == batchSize) {
+                if (!writeBatch(keys, records)) {
+                    dbUnavailable = true;
+                    return;
+                }
+                keys.clear();
+                records.clear();
+            }
+        }
+        dbUnavailable = !keys.isEmpty() && !writeBatch(keys, records);
+    }
+
+    /* 헬퍼 메소드 */
+    private void requestFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) return;
+
+        try {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        } catch (Exception e) {
+            flushScheduled.set(false);  // 종료 중이면 주기 반영/종료 반영에 맡김
+        }
+    }
+
+    // 묶음 반영 (false: DB 문제로 중단 - 남은 기록은 그대로 대기)
+    private boolean writeBatch(List<ScoreKey> keys, List<PendingScore> records) {
+
+        try {
+            upsert(keys, records);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            log.error("게임 기록 반영 실패 ({}건), 다음 주기에 재시도", keys.size(), e);
+            return false;
+        } catch (Exception e) {
+            if (keys.size() == 1) {
+                // 혼자서도 실패하는 행은 계속 재시도해도 같은 결과 -> 버림 (메모리상 최고 기록은 유지)
+                pending.remove(keys.get(0), records.get(0));
+                droppedCounter.increment();
+                log.error("게임 기록 반영 불가로 버림 (userId: {}, gameId: {}, score: {})",
+                        keys.get(0).getUserId(), keys.get(0).getGameId(), records.get(0).getScore(), e);
+                return true;
+            }
+
+            // 문제 행을 찾을 때까지 반으로 나눠 반영
+            log.warn("게임 기록 일괄 반영 실패 ({}건), 나눠서 재시도: {}", keys.size(), e.getMessage());
+            int mid = keys.size() / 2;
+            return writeBatch(keys.subList(0, mid), records.subList(0, mid))
+                    && writeBatch(keys.subList(mid, keys.size()), records.subList(mid, records.size()));
+        }
+
+        flushedCounter.increment(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            pending.remove(keys.get(i), records.get(i));
+        }
+        return true;
+    }
+
+    private void upsert(List<ScoreKey> keys, List<PendingScore> records) {
+
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + keys.size() * 14 + UPSERT_SUFFIX.length());
+        sql.append(UPSERT_PREFIX);
+        Object[] args = new Object[keys.size() * 4];
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(UPSERT_ROW);
+
+            args[i * 4] = keys.get(i).getUserId();
+            args[i * 4 + 1] = keys.get(i).getGameId();
+            args[i * 4 + 2] = records.get(i).getScore();
+            args[i * 4 + 3] = Timestamp.valueOf(records.get(i).getAchievedAt());
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    // 반영 대기 기록 (불변)
+    public static final class PendingScore {
+
+        private final int score;
+        private final LocalDateTime achievedAt;
+
+        PendingScore(int score, LocalDateTime achievedAt) {
+            this.score = score;
+            this.achievedAt = achievedAt;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public LocalDateTime getAchievedAt() {
+            return achievedAt;
+        }
+
+        // 같은 키에 두 기록이 있으면 점수가 높은 쪽 (같으면 먼저 달성한 쪽)
+        static PendingScore higher(PendingScore a, PendingScore b) {
+            if (a.score != b.score) return a.score > b.score ? a : b;
+            return a.achievedAt.isAfter(b.achievedAt) ? b : a;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.englishapp.api_server.game.score;
+
+import com.englishapp.api_server.game.dto.response.GameScoreResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 게임 기록 목록 캐시 (userId -> 기록 목록)
+ * 점수 제출로 기록이 갱신되면 해당 사용자 항목만 무효화, 최대 개수를 넘으면 오래 안 쓴 사용자부터 제거 (LRU)
+ *
+ * 메트릭
+ * - game.score.user-cache.requests(result) : hit / miss
+ */
+@Component
+public class UserScoreCache {
+
+    private final int maxEntries;
+    private final Map<Long, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserScoreCache(@Value("${game.score.user-cache.max-entries:1000}") int maxEntries,
+                          MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+
+        // accessOrder = true -> 조회할 때마다 맨 뒤로 이동, 맨 앞이 가장 오래 안 쓴 항목
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserScoreCache.this.maxEntries;
+            }
+        };
+
+        this.hitCounter = Counter.builder("game.score.user-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("game.score.user-cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 목록을 반환하고, 없으면 loader로 조회해 저장
+     * 조회하는 동안 무효화가 들어왔으면 결과를 저장하지 않음 (갱신 전 값이 남지 않도록)
+     */
+    public List<GameScoreResponse> get(long userId, Supplier<List<GameScoreResponse>> loader) {
+
+        Entry loading;
+        long version;
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.scores != null) {
+                hitCounter.increment();
+                return entry.scores;
+            }
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(userId, entry);
+            }
+            loading = entry;
+            version = entry.version;
+        }
+
+        missCounter.increment();
+
+        // DB 조회는 lock 밖에서
+        List<GameScoreResponse> scores = List.copyOf(loader.get());
+
+        synchronized (entries) {
+            // 조회 중 제거되었다가 다시 생긴 항목에는 저장하지 않음 (그 사이의 무효화를 알 수 없으므로)
+            if (entries.get(userId) == loading && loading.version == version) {
+                loading.scores = scores;
+            }
+        }
+        return scores;
+    }
+
+    public void invalidate(long userId) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                entry.scores = null;
+                entry.version++;
+            }
+        }
+    }
+
+    // 무효화 횟수(version)를 함께 보관해 조회 중 무효화 여부를 판단
+    private static final class Entry {
+
+        private List<GameScoreResponse> scores;
+        private long version;
+    }
+}
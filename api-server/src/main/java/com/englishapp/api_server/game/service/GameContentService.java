@@ -1,9 +1,25 @@
 package com.englishapp.api_server.game.service;
 
+import com.englishapp.api_server.game.domain.GameContentFormat;
 import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.dto.response.FallingWordsDto;
 import com.englishapp.api_server.game.dto.response.GameContentResponse;
+import com.englishapp.api_server.game.dto.response.GameSessionResponse;
+
+import java.util.Iterator;
+import java.util.List;
 
 public interface GameContentService {
 
     GameContentResponse<?> getGameData(Long gameId, GameLevel level);
+
+    // format - 미로/크로스워드 그리드의 응답 형식 (다른 게임은 형식과 무관)
+    // seed   - 지정 시 같은 시드끼리 같은 콘텐츠 (null이면 매번 새로 생성)
+    GameContentResponse<?> getGameData(Long gameId, GameLevel level, GameContentFormat format, Long seed);
+
+    // 여러 라운드 일괄 생성 (levels 순서대로, 라운드 간 단어 중복 없음)
+    GameSessionResponse getSessionData(Long gameId, List<GameLevel> levels, GameContentFormat format);
+
+    // FallingWords 무한 모드 - 중복 없이 하나씩 꺼내는 지연 Iterator
+    Iterator<FallingWordsDto> streamFallingWords(Long gameId, GameLevel level);
 }
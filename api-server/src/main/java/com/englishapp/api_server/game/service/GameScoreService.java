@@ -1,6 +1,8 @@
 package com.englishapp.api_server.game.service;
 
 import com.englishapp.api_server.game.dto.response.GameScoreResponse;
+import com.englishapp.api_server.game.dto.response.LeaderboardEntryResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -9,4 +11,10 @@ public interface GameScoreService {
     void submitScore(Long userId, Long gameId, int newScore);
 
     List<GameScoreResponse> getUserGameScores(Long userId);
+
+    List<LeaderboardEntryResponse> getLeaderboard(Long gameId, int top);
+
+    LeaderboardEntryResponse getUserRank(Long gameId, Long userId);
+
+    SseEmitter subscribeLeaderboard(Long gameId);
 }
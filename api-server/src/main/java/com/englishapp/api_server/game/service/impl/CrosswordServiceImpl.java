@@ -1,19 +1,30 @@
 package com.englishapp.api_server.game.service.impl;
 
 import com.englishapp.api_server.entity.WordDetail;
+import com.englishapp.api_server.game.domain.GameContentFormat;
 import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
 import com.englishapp.api_server.game.dto.response.GameContentResponse;
 import com.englishapp.api_server.game.dto.response.WordPuzzleDto;
+import com.englishapp.api_server.game.pool.GameContentPool;
+import com.englishapp.api_server.game.pool.SeededContentCache;
 import com.englishapp.api_server.game.repository.WordDetailRepository;
+import com.englishapp.api_server.util.RandomSampler;
 import com.englishapp.api_server.util.WordPuzzleGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @Slf4j
@@ -22,40 +33,192 @@ public class CrosswordServiceImpl {  // Factory Pattern에서 호출될 구현
 
     private final WordDetailRepository wordDetailRepository;
     private final WordPuzzleGenerator wordPuzzleGenerator;
+    private final MeterRegistry meterRegistry;
+    private final SeededContentCache seededContentCache;
+
+    @Value("${game.pool.crossword.capacity:20}")
+    private int poolCapacity;
+
+    @Value("${game.pool.crossword.low-water-mark:5}")
+    private int poolLowWaterMark;
+
+    @Value("${game.crossword.parallel-attempts:1}")
+    private int parallelAttempts;  // 1 이하면 기존 순차 재시도
+
+    @Value("${game.crossword.attempt-timeout-ms:300}")
+    private long attemptTimeoutMs;
+
+    // 레벨별로 미리 생성해 둔 퍼즐 풀 (응답 형식과 무관하게 생성 결과 그대로 보관)
+    private GameContentPool<WordPuzzleGenerator.GeneratedPuzzle> puzzlePool;
+
+    // 병렬 생성 시도용 스레드 풀 (CPU 코어 수 제한, 대기열이 차면 호출 스레드에서 실행)
+    private ExecutorService attemptExecutor;
+
+    @PostConstruct
+    public void initPool() {
+        puzzlePool = new GameContentPool<>("CROSSWORDPUZZLE", poolCapacity, poolLowWaterMark,
+                this::generatePuzzle, meterRegistry);
+
+        if (parallelAttempts > 1) {
+            int threads = Math.min(parallelAttempts, Runtime.getRuntime().availableProcessors());
+            AtomicInteger threadNumber = new AtomicInteger();
+
+            attemptExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(parallelAttempts * 4),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "crossword-attempt-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+
+    // 기동 완료 후 모든 레벨 예열
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpPool() {
+        puzzlePool.fillAll();
+    }
+
+    @PreDestroy
+    public void shutdownPool() {
+        puzzlePool.shutdown();
+
+        if (attemptExecutor != null) {
+            attemptExecutor.shutdownNow();
+        }
+    }
 
-    @Transactional(readOnly = true)
     public GameContentResponse<WordPuzzleDto> getCrosswordData(GameLevel level) {
+        return getCrosswordData(level, GameContentFormat.DEFAULT);
+    }
 
-        // 1. 레벨 별 설정 (grid 크기, 단어 길어, 단어 수)
-        int gridSize;
-        int maxLength;
-        int targetWordCount;  // 배치 중 탈라하는 단어들이 있으므로 약 3배수로 조회
-
-        switch (level) {
-            case FIRST: gridSize = 7; maxLength = 5; targetWordCount = 5; break;
-            case SECOND: gridSize = 9;  maxLength = 7;  targetWordCount = 7; break;
-            case THIRD:  gridSize = 11;  maxLength = 7;  targetWordCount = 8; break;
-            case FOURTH: gridSize = 13; maxLength = 9;  targetWordCount = 9; break;
-            case FIFTH:  gridSize = 15; maxLength = 9; targetWordCount = 10; break;
-            default:     gridSize = 7;  maxLength = 6;  targetWordCount = 5;
+    public GameContentResponse<WordPuzzleDto> getCrosswordData(GameLevel level, GameContentFormat format) {
+        return getCrosswordData(level, format, null);
+    }
+
+    public GameContentResponse<WordPuzzleDto> getCrosswordData(GameLevel level, GameContentFormat format, Long seed) {
+
+        // 1. 시드 지정 시 캐시에서 (없으면 결정적 생성),
+        //    아니면 풀에서 꺼내고 비어있으면 동기 생성 (Fallback)
+        WordPuzzleGenerator.GeneratedPuzzle puzzle;
+        if (seed != null) {
+            puzzle = seededContentCache.get(GameName.CROSSWORDPUZZLE, level, seed,
+                    () -> generateSeededPuzzle(level, new Random(seed)));
+        } else {
+            puzzle = puzzlePool.poll(level);
+            if (puzzle == null) {
+                puzzle = generatePuzzle(level);
+            }
         }
 
+        // 2. 외부 응답 DTO 생성 및 반환
+        return GameContentResponse.<WordPuzzleDto>builder()
+                .gameType("CROSSWORDPUZZLE")
+                .level(level.name())
+                .timeLimit(0)
+                .items(List.of(toDto(level, puzzle, format)))
+                .build();
+    }
+
+    // 퍼즐 1개 생성 (풀 채우기 스레드와 Fallback에서 호출)
+    // 조회 쿼리가 Word까지 Fetch Join 하므로 별도 트랜잭션 없이 백그라운드 스레드에서도 사용 가능
+    public WordPuzzleGenerator.GeneratedPuzzle generatePuzzle(GameLevel level) {
+
+        // 1. 레벨 별 설정 (grid 크기, 단어 길어, 단어 수)
+        PuzzleSpec spec = PuzzleSpec.of(level);
+
         // 2. 단어 후보 조회 (생성 실패 확률 대비 4배수 조회)
         List<WordDetail> candidates =
-                wordDetailRepository.findRandomWordsForCrossword(maxLength, targetWordCount * 4);
+                wordDetailRepository.findRandomWordsForCrossword(spec.maxLength, spec.targetWordCount * 4);
+
+        if (candidates.size() < 2) {
+            throw new RuntimeException("단어 수 부족");
+        }
+
+        // 3. 퍼즐 생성 (병렬 시도 모드면 N개 동시 생성 후 최선 선택, 아니면 순차 재시도)
+        return parallelAttempts > 1
+                ? generateBestOf(spec.gridSize, candidates, spec.targetWordCount)
+                : generateSequentially(spec.gridSize, candidates, spec.targetWordCount, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 시드 지정 퍼즐 생성 - 같은 시드, 같은 단어 데이터면 항상 같은 퍼즐
+     * DB의 RAND() 대신 고정 순서 ID 목록에서 시드 Random으로 후보를 뽑고, 순차 재시도만 사용 (병렬 시도는 완료 순서에 따라 결과가 달라짐)
+     */
+    private WordPuzzleGenerator.GeneratedPuzzle generateSeededPuzzle(GameLevel level, Random random) {
+
+        PuzzleSpec spec = PuzzleSpec.of(level);
+
+        // 1. 후보 ID 추출 (고정 순서 목록에서 부분 셔플)
+        List<Long> candidateIds = wordDetailRepository.findCrosswordCandidateIds(spec.maxLength);
+        int[] picked = RandomSampler.sample(candidateIds.size(), spec.targetWordCount * 4, random);
+
+        List<Long> ids = new ArrayList<>(picked.length);
+        for (int idx : picked) ids.add(candidateIds.get(idx));
+
+        // 2. 한 번에 조회 후 추출 순서대로 정렬 (IN 조회 결과 순서는 보장되지 않음)
+        Map<Long, WordDetail> fetched = new HashMap<>();
+        for (WordDetail wd : wordDetailRepository.findAllWithWordByDetailIdIn(ids)) {
+            fetched.put(wd.getDetailId(), wd);
+        }
+
+        List<WordDetail> candidates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            WordDetail wd = fetched.get(id);
+            if (wd != null) candidates.add(wd);
+        }
 
         if (candidates.size() < 2) {
             throw new RuntimeException("단어 수 부족");
         }
 
-        // 3. 퍼즐 생성 시도 (생성 실패 시 재시도)
+        return generateSequentially(spec.gridSize, candidates, spec.targetWordCount, random);
+    }
+
+    // 생성된 퍼즐 -> 응답 DTO (요청 형식에 맞는 그리드 하나만 만듦)
+    private WordPuzzleDto toDto(GameLevel level, WordPuzzleGenerator.GeneratedPuzzle puzzle, GameContentFormat format) {
+
+        char[][] grid = puzzle.getGrid();
+        WordPuzzleDto.WordPuzzleDtoBuilder builder = WordPuzzleDto.builder()
+                .level(level.ordinal() + 1)
+                .gridSize(grid.length)
+                .words(puzzle.getPlaceWords());
+
+        if (format == GameContentFormat.COMPACT) {
+            // 압축 형식 - 한 행을 문자열 하나로 (빈 칸은 BLANK 문자)
+            List<String> rows = new ArrayList<>(grid.length);
+            for (char[] row : grid) {
+                rows.add(new String(row).replace('\0', WordPuzzleDto.BLANK));
+            }
+            return builder.rows(rows).build();
+        }
+
+        // 기존 형식 - 2차원 char 배열 -> 2차원 String 리스트 변환 (JSON 호환)
+        List<List<String>> gridList = new ArrayList<>(grid.length);
+        for (char[] row : grid) {
+            List<String> rowList = new ArrayList<>(row.length);
+
+            for (char c : row) {
+                rowList.add(c == '\0' ? null : String.valueOf(c));
+            }
+
+            gridList.add(rowList);
+        }
+        return builder.grid(gridList).build();
+    }
+
+    // 순차 재시도 - 목표 단어 수의 60% 이상 배치된 첫 퍼즐 사용
+    private WordPuzzleGenerator.GeneratedPuzzle generateSequentially(
+            int gridSize, List<WordDetail> candidates, int targetWordCount, Random random) {
+
         WordPuzzleGenerator.GeneratedPuzzle puzzle = null;
         int retryCount = 0;
 
         while (retryCount < 5) {
             // 매번 셔플해서 조합 시도
-            Collections.shuffle(candidates);
-            puzzle = wordPuzzleGenerator.generate(gridSize, candidates);
+            Collections.shuffle(candidates, random);
+            puzzle = wordPuzzleGenerator.generate(gridSize, candidates, random);
 
             // 목표 단어 수의 60% 이상 배치되었으면 통과 (너무 엄격하면 무한루프 가능성)
             if (puzzle.getPlaceWords().size() >= targetWordCount * 0.6) {
@@ -64,35 +227,88 @@ public class CrosswordServiceImpl {  // Factory Pattern에서 호출될 구현
 
             retryCount++;
         }
+        return puzzle;
+    }
 
-        // 4. 2차원 char 배열 -> 2차원 String 리스트 변환 (JSON 호환)
-        List<List<String>> gridList = new ArrayList<>();
-        char[][] grid = puzzle.getGrid();
+    /**
+     * 병렬 시도 - 서로 다른 셔플/Random으로 N개를 동시에 생성하고,
+     * 목표 단어 수를 채운 결과가 나오면 바로, 아니면 제한 시간 안에 끝난 것 중 점수가 가장 높은 퍼즐 사용
+     */
+    private WordPuzzleGenerator.GeneratedPuzzle generateBestOf(
+            int gridSize, List<WordDetail> candidates, int targetWordCount) {
 
-        for (char[] row : grid) {
-            List<String> rowList = new ArrayList<>();
+        CompletionService<WordPuzzleGenerator.GeneratedPuzzle> completionService =
+                new ExecutorCompletionService<>(attemptExecutor);
+        List<Future<WordPuzzleGenerator.GeneratedPuzzle>> futures = new ArrayList<>(parallelAttempts);
 
-            for (char c : row) {
-                rowList.add(c == '\0' ? null : String.valueOf(c));
-            }
+        for (int i = 0; i < parallelAttempts; i++) {
+            Random random = new Random(ThreadLocalRandom.current().nextLong());
+            List<WordDetail> shuffled = new ArrayList<>(candidates);
+            Collections.shuffle(shuffled, random);
 
-            gridList.add(rowList);
+            futures.add(completionService.submit(() -> wordPuzzleGenerator.generate(gridSize, shuffled, random)));
         }
 
-        // 5-1. Response 생성
-        WordPuzzleDto puzzleDto = WordPuzzleDto.builder()
-                .level(level.ordinal() + 1)
-                .gridSize(gridSize)
-                .words(puzzle.getPlaceWords())
-                .grid(gridList)
-                .build();
+        WordPuzzleGenerator.GeneratedPuzzle best = null;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(attemptTimeoutMs);
 
-        // 5-2. 외부 응답 DTO 생성 및 반환
-        return GameContentResponse.<WordPuzzleDto>builder()
-                .gameType("CROSSWORDPUZZLE")
-                .level(level.name())
-                .timeLimit(0)
-                .items(List.of(puzzleDto))
-                .build();
+        try {
+            for (int done = 0; done < parallelAttempts; done++) {
+                Future<WordPuzzleGenerator.GeneratedPuzzle> future =
+                        completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) break;  // 제한 시간 초과 - 지금까지 중 최선 사용
+
+                WordPuzzleGenerator.GeneratedPuzzle puzzle;
+                try {
+                    puzzle = future.get();
+                } catch (ExecutionException e) {
+                    log.warn("크로스워드 병렬 생성 시도 실패: {}", e.getCause().getMessage());
+                    continue;
+                }
+
+                if (best == null || score(puzzle, gridSize) > score(best, gridSize)) {
+                    best = puzzle;
+                }
+                if (puzzle.getPlaceWords().size() >= targetWordCount) break;  // 목표 달성 - 나머지는 취소
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+
+        // 모든 시도가 실패/시간 초과면 현재 스레드에서 한 번 생성
+        return best != null ? best : wordPuzzleGenerator.generate(gridSize, candidates);
+    }
+
+    // 퍼즐 점수 = 배치된 단어 수 + 그리드 밀도(0 ~ 1, 단어 수가 같을 때 더 촘촘한 퍼즐 우선)
+    private double score(WordPuzzleGenerator.GeneratedPuzzle puzzle, int gridSize) {
+        return puzzle.getPlaceWords().size() + (double) puzzle.getFilledCells() / (gridSize * gridSize);
+    }
+
+    // 레벨별 퍼즐 설정 (grid 크기, 최대 단어 길이, 목표 단어 수) - 벤치마크도 같은 설정 사용
+    @Getter
+    public static final class PuzzleSpec {
+
+        private final int gridSize;
+        private final int maxLength;
+        private final int targetWordCount;
+
+        private PuzzleSpec(int gridSize, int maxLength, int targetWordCount) {
+            this.gridSize = gridSize;
+            this.maxLength = maxLength;
+            this.targetWordCount = targetWordCount;
+        }
+
+        public static PuzzleSpec of(GameLevel level) {
+            switch (level) {
+                case FIRST:  return new PuzzleSpec(7, 5, 5);
+                case SECOND: return new PuzzleSpec(9, 7, 7);
+                case THIRD:  return new PuzzleSpec(11, 7, 8);
+                case FOURTH: return new PuzzleSpec(13, 9, 9);
+                case FIFTH:  return new PuzzleSpec(15, 9, 10);
+                default:     return new PuzzleSpec(7, 6, 5);
+            }
+        }
     }
 }
@@ -3,24 +3,36 @@ package com.englishapp.api_server.game.service.impl;
 import com.englishapp.api_server.entity.WordDetail;
 import com.englishapp.api_server.game.dto.response.FallingWordsDto;
 import com.englishapp.api_server.entity.Word;
+import com.englishapp.api_server.game.catalog.GameRegistry;
+import com.englishapp.api_server.game.catalog.WordCatalog;
+import com.englishapp.api_server.game.catalog.WordDetailCatalog;
+import com.englishapp.api_server.game.domain.GameContentFormat;
 import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
+import com.englishapp.api_server.game.domain.LevelSettings;
+import com.englishapp.api_server.game.domain.WordBucket;
 import com.englishapp.api_server.game.dto.response.GameContentResponse;
-import com.englishapp.api_server.game.dto.response.MazeAdventureResponse;
-import com.englishapp.api_server.game.dto.response.MysteryCardsDto;
-import com.englishapp.api_server.game.entity.Game;
-import com.englishapp.api_server.game.repository.GameRepository;
+import com.englishapp.api_server.game.dto.response.GameSessionResponse;
+import com.englishapp.api_server.game.pool.SeededContentCache;
 import com.englishapp.api_server.game.repository.WordDetailRepository;
 import com.englishapp.api_server.game.service.GameContentService;
 import com.englishapp.api_server.repository.SentenceRepository;
 import com.englishapp.api_server.repository.WordRepository;
-import com.englishapp.api_server.util.MazeGenerator;
+import com.englishapp.api_server.util.MazeLayout;
+import com.englishapp.api_server.util.MysteryCardsAssembler;
+import com.englishapp.api_server.util.RandomSampler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,42 +40,68 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GameContentServiceImpl implements GameContentService {
 
-    private final GameRepository gameRepository;
+    // FallingWords 난이도 구간 그룹
+    private static final WordBucket[] SHORT_WORDS = {WordBucket.SHORT_WORD};
+    private static final WordBucket[] SINGLE_WORDS_UP_TO_MEDIUM = {WordBucket.SHORT_WORD, WordBucket.MEDIUM_WORD};
+    private static final WordBucket[] ALL_BUCKETS = WordBucket.values();
+    private static final WordBucket[] LONG_BUCKETS = {
+            WordBucket.MEDIUM_WORD, WordBucket.LONG_WORD,
+            WordBucket.SHORT_PHRASE, WordBucket.MEDIUM_PHRASE, WordBucket.LONG_PHRASE};
+    private static final WordBucket[] NO_BUCKETS = {};
+
+    private final GameRegistry gameRegistry;
     private final WordRepository wordRepository;
     private final SentenceRepository sentenceRepository;
     private final WordDetailRepository wordDetailRepository;
     private final ObjectMapper objectMapper;  // DB의 JSON 파싱용
     private final CrosswordServiceImpl crosswordService;
+    private final MazeServiceImpl mazeService;
+    private final WordCatalog wordCatalog;
+    private final WordDetailCatalog wordDetailCatalog;
+    private final SeededContentCache seededContentCache;
+
+    @Value("${game.session.max-rounds:10}")
+    private int maxSessionRounds;
+
+    @Value("${game.stream.max-words:2000}")
+    private int maxStreamWords;  // 스트림 하나에서 내보낼 최대 단어 수
 
     // 메인 컨트롤 메서드 - 게임 ID에 따라 다른 데이터 리턴 (Factory 패턴과 유사)
     @Override
     @Transactional(readOnly = true)
     public GameContentResponse<?> getGameData(Long gameId, GameLevel level) {
+        return getGameData(gameId, level, GameContentFormat.DEFAULT, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GameContentResponse<?> getGameData(Long gameId, GameLevel level, GameContentFormat format, Long seed) {
 
-        // 1. 무슨 게임인지 확인
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않은 게임"));
+        // 1. 무슨 게임인지 확인 (메모리 레지스트리, DB 조회 없음)
+        GameRegistry.GameInfo game = gameRegistry.get(gameId);
+        LevelSettings settings = game.settings(level);
 
         List<Object> dataItems;
 
-        int timeLimit = 0;  // 게임별, 레벨별 시간 제한 담을 변수
+        int timeLimit = settings.getTimeLimit();  // 게임별, 레벨별 시간 제한 (FallingWords는 0 - 프론트에서 속도 제어)
 
         // 2. 게임 종류에 따른 데이터 조회
         switch (game.getGameName()) {
             case FALLINGWORDS:
-                dataItems = getFallingWordsData(level);
-                // timeLimit = 0;  // 프론트에서 속도 제어
+                dataItems = generateContent(GameName.FALLINGWORDS, level, seed,
+                        random -> getFallingWordsData(wordCatalog.getSnapshot(), level, settings.getItemCount(), random, null));
                 break;
             case MYSTERYCARDS:
-                timeLimit = getMysteryTimeLimit(level);
-                dataItems = getMysteryCardsData(level);
+                dataItems = generateContent(GameName.MYSTERYCARDS, level, seed,
+                        random -> getMysteryCardsData(settings.getItemCount(), random));
                 break;
             case MAZEADVENTURE:
-                dataItems = getMazeData(level);
+                MazeLayout layout = mazeService.getMaze(level, seed);
+                dataItems = Collections.singletonList(layout.toResponse(format));
                 break;
             case CROSSWORDPUZZLE:
                 // 이미 완성되어 나오므로 'dataItems'에 담지 않고, 바로 'return' 함
-                return crosswordService.getCrosswordData(level);
+                return crosswordService.getCrosswordData(level, format, seed);
             default:
                 throw new IllegalArgumentException("지원하지 않는 게임: " + game.getGameName());
         }
@@ -77,167 +115,333 @@ public class GameContentServiceImpl implements GameContentService {
                 .build();
     }
 
-    // FallingWords 전용 로직
-    private List<Object> getFallingWordsData(GameLevel level) {
+    /**
+     * 여러 라운드를 한 번에 생성 (요청/트랜잭션 1번)
+     * FallingWords는 같은 카탈로그 스냅샷에서, MysteryCards는 전체 문제 수만큼 한 번에 추출해 라운드 간 단어가 겹치지 않음
+     * 미로/크로스워드는 라운드마다 풀에서 하나씩 꺼냄
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public GameSessionResponse getSessionData(Long gameId, List<GameLevel> levels, GameContentFormat format) {
+
+        if (levels == null || levels.isEmpty() || levels.size() > maxSessionRounds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "라운드 수는 1 ~ " + maxSessionRounds + " 사이여야 합니다.");
+        }
+        if (levels.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "라운드별 레벨이 비어있습니다.");
+        }
 
-        // 1. 레벨 별 단어 조회
-        List<Word> words = getFallingWordsByLevel(level);
+        GameRegistry.GameInfo game = gameRegistry.get(gameId);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<GameContentResponse<?>> rounds = new ArrayList<>(levels.size());
+
+        switch (game.getGameName()) {
+            case FALLINGWORDS: {
+                WordCatalog.Snapshot catalog = wordCatalog.getSnapshot();
+                BitSet used = new BitSet(catalog.size());
+
+                for (GameLevel level : levels) {
+                    LevelSettings settings = game.settings(level);
+                    rounds.add(toRoundResponse(game, level, settings,
+                            getFallingWordsData(catalog, level, settings.getItemCount(), random, used)));
+                }
+                break;
+            }
+            case MYSTERYCARDS: {
+                // 전체 문제 수만큼 한 번에 추출한 뒤 라운드별 문제 수대로 나눔
+                int totalQuestions = 0;
+                for (GameLevel level : levels) totalQuestions += game.settings(level).getItemCount();
+
+                List<WordDetail[]> drawn = drawMysteryCards(totalQuestions, random);
+                int from = 0;
+
+                for (GameLevel level : levels) {
+                    LevelSettings settings = game.settings(level);
+                    int to = Math.min(drawn.size(), from + settings.getItemCount());
+                    rounds.add(toRoundResponse(game, level, settings,
+                            MysteryCardsAssembler.assemble(drawn.subList(from, to), random)));
+                    from = to;
+                }
+                break;
+            }
+            case MAZEADVENTURE:
+                for (GameLevel level : levels) {
+                    MazeLayout layout = mazeService.getMaze(level, null);
+                    rounds.add(toRoundResponse(game, level, game.settings(level),
+                            Collections.singletonList(layout.toResponse(format))));
+                }
+                break;
+            case CROSSWORDPUZZLE:
+                for (GameLevel level : levels) {
+                    rounds.add(crosswordService.getCrosswordData(level, format));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 게임: " + game.getGameName());
+        }
+
+        return GameSessionResponse.builder()
+                .gameType(game.getGameName().name())
+                .rounds(rounds)
+                .build();
+    }
+
+    private GameContentResponse<Object> toRoundResponse(GameRegistry.GameInfo game, GameLevel level,
+                                                        LevelSettings settings, List<Object> dataItems) {
+        return GameContentResponse.builder()
+                .gameType(game.getGameName().name())
+                .level(level.name())
+                .timeLimit(settings.getTimeLimit())
+                .items(dataItems)
+                .build();
+    }
+
+    /**
+     * FallingWords 무한 모드 - 단어를 하나씩 꺼내는 Iterator (목록을 미리 만들지 않음)
+     * 호출 시점의 카탈로그 스냅샷에서 중복 없이 뽑으며, 단어가 바닥나거나 최대 수에 도달하면 끝남
+     * 응답 스트림에 쓰는 속도(클라이언트가 읽는 속도)만큼만 다음 단어를 뽑음
+     */
+    @Override
+    public Iterator<FallingWordsDto> streamFallingWords(Long gameId, GameLevel level) {
+
+        GameRegistry.GameInfo game = gameRegistry.get(gameId);
+        if (game.getGameName() != GameName.FALLINGWORDS) {
+            throw new IllegalArgumentException("스트리밍을 지원하지 않는 게임: " + game.getGameName());
+        }
+
+        WordCatalog.Snapshot catalog = wordCatalog.getSnapshot();
+        if (catalog.isEmpty()) {
+            throw new IllegalStateException("단어 카탈로그 적재 중");
+        }
+
+        // 요청 스레드가 아닌 스트리밍 스레드에서 사용하므로 ThreadLocalRandom 대신 별도 Random
+        WordCatalog.Snapshot.WordCursor cursor =
+                fallingWordsCursor(catalog, level, new Random(ThreadLocalRandom.current().nextLong()));
+
+        return new Iterator<>() {
+            private int emitted;
+
+            @Override
+            public boolean hasNext() {
+                return emitted < maxStreamWords && cursor.hasNext();
+            }
+
+            @Override
+            public FallingWordsDto next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                int idx = cursor.next();
+                emitted++;
+                return FallingWordsDto.builder()
+                        .id(catalog.getId(idx))
+                        .content(catalog.getContent(idx))
+                        .meaning(catalog.getMeaning(idx))
+                        .build();
+            }
+        };
+    }
+
+    // 시드가 없으면 매번 새로 생성, 있으면 시드 Random으로 결정적 생성 후 캐시 (같은 시드 요청끼리 결과 공유)
+    private <T> T generateContent(GameName game, GameLevel level, Long seed, Function<Random, T> generator) {
+        if (seed == null) {
+            return generator.apply(ThreadLocalRandom.current());
+        }
+        return seededContentCache.get(game, level, seed, () -> generator.apply(new Random(seed)));
+    }
+
+    // FallingWords 전용 로직 (used: 세션 내 이미 낸 단어, 단일 라운드면 null)
+    private List<Object> getFallingWordsData(WordCatalog.Snapshot catalog, GameLevel level, int wordCount,
+                                             Random random, BitSet used) {
+
+        // 카탈로그 적재 전(기동 직후)에는 기존 DB 랜덤 조회로 대체
+        if (catalog.isEmpty()) {
+            return getFallingWordsByLevel(level, wordCount).stream()
+                    .map(word -> (Object) FallingWordsDto.builder()
+                            .id(word.getId())
+                            .content(word.getContent())
+                            .meaning(word.getMeaning())
+                            //.audioUrl(word.getAudioUrl())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        // 1. 레벨 별 단어 추출 (메모리 카탈로그에서 부분 셔플)
+        int[] picked = sampleFallingWords(catalog, level, wordCount, random, used);
 
         // 2. DTO 변환
-        return words.stream()
-                .map(word -> (Object) FallingWordsDto.builder()
-                        .id(word.getId())
-                        .content(word.getContent())
-                        .meaning(word.getMeaning())
-                        //.audioUrl(word.getAudioUrl())
-                        .build())
-                .collect(Collectors.toList());
+        List<Object> result = new ArrayList<>(picked.length);
+        for (int idx : picked) {
+            result.add(FallingWordsDto.builder()
+                    .id(catalog.getId(idx))
+                    .content(catalog.getContent(idx))
+                    .meaning(catalog.getMeaning(idx))
+                    //.audioUrl(catalog.getAudioUrl(idx))
+                    .build());
+        }
+        return result;
     }
 
-    // [헬퍼 로직 분리] 레벨별 단어 조회 쿼리 호출
-    private List<Word> getFallingWordsByLevel(GameLevel level) {
+    // [헬퍼 로직 분리] 레벨별 난이도 구간에서 추출
+    // 4, 5단계는 긴 단어/구 위주로 섞되 짧은 단어를 일부 포함 (70:30, 80:20)
+    private int[] sampleFallingWords(WordCatalog.Snapshot catalog, GameLevel level, int count, Random random,
+                                     BitSet used) {
+
         switch (level) {
-            case FIRST:  return wordRepository.findWordsForLevel1(15);
-            case SECOND: return wordRepository.findWordsForLevel2(20);
-            case THIRD:  return wordRepository.findWordsAny(20);
-            case FOURTH: return wordRepository.findWordsAny(25);
-            case FIFTH:  return wordRepository.findWordsAny(30);
-            default:     return wordRepository.findWordsForLevel1(15);
+            case FIRST:  return catalog.sample(count, random, used, SHORT_WORDS);
+            case SECOND: return catalog.sample(count, random, used, SINGLE_WORDS_UP_TO_MEDIUM);
+            case THIRD:  return catalog.sample(count, random, used, ALL_BUCKETS);
+            case FOURTH: return catalog.sampleMixed(count, 0.7, random, used, LONG_BUCKETS, SHORT_WORDS);
+            case FIFTH:  return catalog.sampleMixed(count, 0.8, random, used, LONG_BUCKETS, SHORT_WORDS);
+            default:     return catalog.sample(count, random, used, SHORT_WORDS);
         }
     }
 
-    // MysteryCards 레벨별 시간 설정
-    private int getMysteryTimeLimit(GameLevel level) {
+    // [헬퍼 로직 분리] 무한 모드 커서 - sampleFallingWords와 같은 레벨별 구간/비율
+    private WordCatalog.Snapshot.WordCursor fallingWordsCursor(WordCatalog.Snapshot catalog, GameLevel level,
+                                                               Random random) {
         switch (level) {
-            case FIRST: return 20;
-            case SECOND: return 15;
-            case THIRD: return 10;
-            default: return 20;
+            case SECOND: return catalog.cursor(random, 1.0, SINGLE_WORDS_UP_TO_MEDIUM, NO_BUCKETS);
+            case THIRD:  return catalog.cursor(random, 1.0, ALL_BUCKETS, NO_BUCKETS);
+            case FOURTH: return catalog.cursor(random, 0.7, LONG_BUCKETS, SHORT_WORDS);
+            case FIFTH:  return catalog.cursor(random, 0.8, LONG_BUCKETS, SHORT_WORDS);
+            default:     return catalog.cursor(random, 1.0, SHORT_WORDS, NO_BUCKETS);
         }
     }
 
-    // MysteryCards 전용 로직
-    private List<Object> getMysteryCardsData(GameLevel level) {
-        int questionCount;  // 레벨에 따라 조정
-
-        // 레벨 별 문제 수 설정
+    // [헬퍼 로직 분리] 레벨별 단어 조회 쿼리 호출 (카탈로그 미적재 시 사용)
+    private List<Word> getFallingWordsByLevel(GameLevel level, int count) {
         switch (level) {
-            case FIRST: questionCount = 10; break;
-            case SECOND: questionCount = 15; break;
-            case THIRD: questionCount = 20; break;
-            default: questionCount = 10;
+            case FIRST:  return wordRepository.findWordsForLevel1(count);
+            case SECOND: return wordRepository.findWordsForLevel2(count);
+            default:     return wordRepository.findWordsAny(count);
         }
+    }
 
-        // 1. 문제(정답) 데이터 조회 - 중복 제거를 위해 3배수 조회
-        List<WordDetail> questions = wordDetailRepository.findRandomQuestions(questionCount * 3);
+    // MysteryCards 전용 로직 (문제 수는 레벨 설정에서)
+    private List<Object> getMysteryCardsData(int questionCount, Random random) {
 
-        // 2. 오답(보기) 데이터 조회 (넉넉하게 문제 수 * 3)
-        List<WordDetail> distractors = wordDetailRepository.findRandomDistractors(questionCount * 5);
+        // 1. 문제별 카드 묶음 추출 ([0]: 정답, [1~3]: 오답)
+        List<WordDetail[]> rounds = drawMysteryCards(questionCount, random);
 
-        // 3. 문제 중복 제거 로직 (Set 활용)
-        List<WordDetail> uniqueQuestions = new ArrayList<>();
-        Set<String> usedContents = new HashSet<>();
+        // 2. 최종 DTO 생성 (보기 구성 + 섞기)
+        return MysteryCardsAssembler.assemble(rounds, random);
+    }
 
-        for (WordDetail wd : questions) {
-            String content = wd.getWord().getContent();
-            if (usedContents.contains(content)) continue;  // 이미 뽑은 단어면 패스
-            uniqueQuestions.add(wd);
-            usedContents.add(content);
-            if (uniqueQuestions.size() == questionCount) break;  // 목표 갯수 달성 시 중단
-        }
-
-        // 4. 최종 DTO 생성
-        List<Object> resultList = new ArrayList<>();
-        int distIndex = 0;
-
-        for (WordDetail question : uniqueQuestions) {
-            // A. 보기 리스트 구성 (정답 1개 + 오답 3개)
-            List<MysteryCardsDto.CardOption> options = new ArrayList<>();
-            String answerContent = question.getWord().getContent();
-
-            // 정답 보기 추가
-            options.add(MysteryCardsDto.CardOption.builder()
-                    .wordId(question.getWord().getId())
-                    .word(answerContent)
-                    .imageUrl(question.getImageUrl())
-                    .isAnswer(true)
-                    .build());
+    // MysteryCards 카드 추출 - ID 인덱스에서 정답을 뽑고, 오답은 미리 계산된 유사 단어 우선으로 채운 뒤 IN 조회 한 번으로 가져옴
+    private List<WordDetail[]> drawMysteryCards(int questionCount, Random random) {
+
+        // 인덱스 적재 전(기동 직후)에는 기존 랜덤 조회로 대체 (단어 중복만 제거)
+        if (wordDetailCatalog.isEmpty()) {
+            return drawMysteryCardsFromDb(questionCount);
+        }
 
-            // B. 오답 3개 추가
-            int addedDistractors = 0;
-            while (addedDistractors < 3) {
-                if (distIndex >= distractors.size()) distIndex = 0;
-                WordDetail wrong = distractors.get(distIndex++);
-                String wrongContent = wrong.getWord().getContent();
+        // 1. 정답 + 예비 오답 ID 추출 (모두 서로 다른 단어)
+        //    단어가 문제 수 * 4개보다 적으면 예비 오답이 모자라므로, 뽑은 단어 전체를 오답으로 돌려 씀
+        //    (다른 문제의 정답/오답과 겹칠 수 있지만 문제 수는 유지 - 한 문제 안의 보기는 항상 서로 다름)
+        long[] sampled = wordDetailCatalog.sample(questionCount * 4, random);
+        if (sampled.length < 4) return new ArrayList<>();
 
-                // 정답과 같거나, 이미 보기에 있는 단어면 패스
-                boolean isDuplicate =
-                        wrongContent.equals(answerContent) || options.stream().anyMatch(opt -> opt.getWord().equals(wrongContent));
+        int answerCount = Math.min(questionCount, sampled.length);
+        int spareFrom = sampled.length >= questionCount * 4 ? answerCount : 0;
+        int spareIdx = answerCount % sampled.length;
 
-                if (isDuplicate) continue;
+        // 2. 문제별 보기 ID 결정
+        long[][] plans = new long[answerCount][4];
 
-                options.add(MysteryCardsDto.CardOption.builder()
-                        .wordId(wrong.getWord().getId())
-                        .word(wrongContent)
-                        .imageUrl(wrong.getImageUrl())
-                        .isAnswer(false)
-                        .build());
+        for (int q = 0; q < answerCount; q++) {
+            long[] plan = plans[q];
+            plan[0] = sampled[q];
+            int filled = 1;
 
-                addedDistractors++;
+            // A. 유사 단어 목록에서 무작위 순서로 최대 3개 (매번 같은 오답이 나오지 않도록)
+            long[] confusables = wordDetailCatalog.confusablesOf(plan[0]);
+            RandomSampler picker = new RandomSampler(confusables.length, random, 3);
+
+            while (filled < 4 && picker.hasNext()) {
+                long id = confusables[picker.next()];
+                if (!containsId(plan, filled, id)) plan[filled++] = id;
             }
 
-            // 보기 섞기
-            Collections.shuffle(options);
-
-            // C. DTO 생성 및 추가
-            // 주의: resultList.add는 반복문(오답생성) 밖에서 한번만 해야함
-            resultList.add(MysteryCardsDto.builder()
-                    .questionId(question.getWord().getId())
-                    .sentence(question.getDescription())
-                    .answerWord(answerContent)
-                    .answerImageUrl(question.getImageUrl())
-                    .options(options)
-                    .build());
+            // B. 모자라면 예비 오답으로 채움 (예비 구간을 순환, 서로 다른 단어가 4개 이상이므로 항상 채워짐)
+            while (filled < 4) {
+                long id = sampled[spareIdx];
+                spareIdx = spareIdx + 1 < sampled.length ? spareIdx + 1 : spareFrom;
+                if (!containsId(plan, filled, id)) plan[filled++] = id;
+            }
+        }
+
+        // 3. 필요한 ID를 모아 한 번에 조회
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long[] plan : plans) {
+            for (long id : plan) ids.add(id);
         }
-        return resultList;
+
+        Map<Long, WordDetail> fetched = new HashMap<>();
+        for (WordDetail wd : wordDetailRepository.findAllWithWordByDetailIdIn(ids)) {
+            fetched.put(wd.getDetailId(), wd);
+        }
+
+        // 4. 문제별 카드 묶음 구성 (인덱스 적재 후 삭제된 행이 섞인 문제는 제외)
+        List<WordDetail[]> rounds = new ArrayList<>(answerCount);
+        for (long[] plan : plans) {
+            WordDetail[] cards = new WordDetail[4];
+            boolean complete = true;
+
+            for (int i = 0; i < 4 && complete; i++) {
+                cards[i] = fetched.get(plan[i]);
+                complete = cards[i] != null;
+            }
+            if (complete) rounds.add(cards);
+        }
+        return rounds;
     }
 
-    private List<Object> getMazeData(GameLevel level) {
+    // 인덱스 미적재 시 DB 랜덤 조회로 카드 추출
+    private List<WordDetail[]> drawMysteryCardsFromDb(int questionCount) {
 
-        // 1. 난이도 별 설정값 정의(크기, 함정 수)
-        int size;
-        int trapCount;
+        List<WordDetail> drawn = new ArrayList<>(questionCount * 4);
+        Set<String> usedContents = new HashSet<>();
 
-        switch (level) {
-            case FIRST:
-                size = 5;
-                trapCount = 2;
-                break;
-            case SECOND:
-                size = 7;
-                trapCount = 3;
-                break;
-            case THIRD:
-                size = 9;
-                trapCount = 4;
-                break;
-            /* case FOURTH:
-                size = 10;
-                trapCount = 4;
-                break;
-            case FIFTH:
-                size = 12;
-                trapCount = 5;
-                break; */
-            default:
-                size = 6;
-                trapCount = 2;
+        for (WordDetail wd : wordDetailRepository.findRandomQuestions(questionCount * 8)) {
+            if (!usedContents.add(wd.getWord().getContent())) continue;  // 이미 뽑은 단어면 패스
+            drawn.add(wd);
+            if (drawn.size() == questionCount * 4) break;
         }
 
-        // 2. 알고리즘을 통한 즉석 생성
-        MazeAdventureResponse generatedMaze = MazeGenerator.generate(size, size, trapCount);
+        if (drawn.size() < 4) return new ArrayList<>();
+
+        // 앞쪽은 정답, 나머지는 문제당 3개씩 오답으로 분배
+        // 단어가 모자라면 뽑은 단어 전체를 오답으로 돌려 씀 (정답과 같은 단어만 제외, 문제 수 유지)
+        int answerCount = Math.min(questionCount, drawn.size());
+        boolean enough = drawn.size() >= questionCount * 4;
+        int spareIdx = answerCount % drawn.size();
+        List<WordDetail[]> rounds = new ArrayList<>(answerCount);
+
+        for (int q = 0; q < answerCount; q++) {
+            if (enough) {
+                int distractorFrom = answerCount + q * 3;
+                rounds.add(new WordDetail[]{
+                        drawn.get(q), drawn.get(distractorFrom), drawn.get(distractorFrom + 1), drawn.get(distractorFrom + 2)});
+                continue;
+            }
 
-        // 3. 리스트에 담아 반환
-        return Collections.singletonList(generatedMaze);
+            WordDetail[] cards = new WordDetail[4];
+            cards[0] = drawn.get(q);
+            for (int filled = 1; filled < 4; ) {
+                WordDetail wrong = drawn.get(spareIdx);
+                spareIdx = (spareIdx + 1) % drawn.size();
+                if (wrong != cards[0]) cards[filled++] = wrong;
+            }
+            rounds.add(cards);
+        }
+        return rounds;
+    }
+
+    private boolean containsId(long[] ids, int length, long id) {
+        for (int i = 0; i < length; i++) {
+            if (ids[i] == id) return true;
+        }
+        return false;
     }
 }
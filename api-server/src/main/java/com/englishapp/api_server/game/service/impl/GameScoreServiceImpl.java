@@ -1,21 +1,25 @@
 package com.englishapp.api_server.game.service.impl;
 
-import com.englishapp.api_server.entity.User;
+import com.englishapp.api_server.game.catalog.GameRegistry;
 import com.englishapp.api_server.game.dto.response.GameScoreResponse;
-import com.englishapp.api_server.game.entity.Game;
-import com.englishapp.api_server.game.entity.GameScore;
-import com.englishapp.api_server.game.repository.GameRepository;
 import com.englishapp.api_server.game.repository.GameScoreRepository;
+import com.englishapp.api_server.game.dto.response.LeaderboardEntryResponse;
+import com.englishapp.api_server.game.score.GameLeaderboard;
+import com.englishapp.api_server.game.score.LeaderboardBroadcaster;
+import com.englishapp.api_server.game.score.ScoreWriteBuffer;
+import com.englishapp.api_server.game.score.UserScoreCache;
 import com.englishapp.api_server.game.service.GameScoreService;
 import com.englishapp.api_server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -24,57 +28,97 @@ public class GameScoreServiceImpl implements GameScoreService {
 
     private final GameScoreRepository gameScoreRepository;
     private final UserRepository userRepository;
-    private final GameRepository gameRepository;
+    private final GameRegistry gameRegistry;
+    private final ScoreWriteBuffer scoreWriteBuffer;
+    private final GameLeaderboard gameLeaderboard;
+    private final LeaderboardBroadcaster leaderboardBroadcaster;
+    private final UserScoreCache userScoreCache;
+
+    @Value("${game.leaderboard.max-top:100}")
+    private int maxTop;  // 한 번에 조회할 수 있는 최대 순위 수
 
     // 게임 점수 비교 및 저장
+    // 최고 기록 비교는 메모리(ScoreWriteBuffer)에서 하고, 갱신된 기록만 모아서 주기적으로 일괄 반영 (Write-Behind)
     @Override
-    @Transactional
     public void submitScore(Long userId, Long gameId, int newScore) {
 
-        // 엔티티 조회 (프록시 객체 조회가 성능 상 유리할 수 있으나, 안전하게 조회)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 조회 실패"));
+        // 게임 존재 여부는 메모리 레지스트리로 확인
+        gameRegistry.get(gameId);
 
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("게임 찾기 실패"));
+        // 이미 기록이 있는 (userId, gameId)는 사용자 확인도 생략 (첫 기록일 때만 조회, 순위표 표시용 이름도 함께)
+        String username = null;
+        if (!scoreWriteBuffer.hasRecord(userId, gameId)) {
+            username = userRepository.findUsernameById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자 조회 실패"));
+        }
 
-        // 기존 기록 유무 체크
-        Optional<GameScore> existingScore = gameScoreRepository.findByUserAndGame(user, game);
+        ScoreWriteBuffer.PendingScore updated = scoreWriteBuffer.submit(userId, gameId, newScore);
+        if (updated != null) {
+            int rank = gameLeaderboard.update(gameId, userId, username, updated.getScore(), updated.getAchievedAt());
+            leaderboardBroadcaster.onScoreUpdated(gameId, rank);
+            userScoreCache.invalidate(userId);
+            log.info("사용자 '{}'가 {}번 게임에서 {}점 갱신", userId, gameId, newScore);
+        }
+    }
 
-        if (existingScore.isPresent()) {  // 기존 기록 존재 (점수 비교 후 갱신)
-            GameScore score = existingScore.get();
-            boolean isUpdated = score.updateHighScore(newScore);
-            // JPA의 Dirty Checking으로 save 호출없이 트랜젝션이 끝날 때 isUpdated가 true이면 DB에 업데이트
+    // 사용자 기록 목록 - 캐시에 없으면 Projection 쿼리 1번 + 아직 DB에 반영되지 않은 기록을 덮어씀
+    @Override
+    public List<GameScoreResponse> getUserGameScores(Long userId) {
+        return userScoreCache.get(userId, () -> loadUserGameScores(userId));
+    }
 
-            // isUpdated의 log
-            if (isUpdated) {
-                log.info("사용자 '{}'가 {}번 게임에서 {}점 갱신", userId, gameId, newScore);
-            }
+    // 게임 순위표 상위 N명 (메모리 순위표)
+    @Override
+    public List<LeaderboardEntryResponse> getLeaderboard(Long gameId, int top) {
 
-        } else {  // 기존 기록 없음 (새로 생성)
-            GameScore newGameScore = GameScore.builder()
-                    .user(user)
-                    .game(game)
-                    .highScore(newScore)
-                    .build();
+        gameRegistry.get(gameId);
+        return gameLeaderboard.top(gameId, Math.min(top, maxTop));
+    }
 
-            gameScoreRepository.save(newGameScore);
-        }
+    // 사용자 순위 (기록이 없으면 null)
+    @Override
+    public LeaderboardEntryResponse getUserRank(Long gameId, Long userId) {
+
+        gameRegistry.get(gameId);
+        return gameLeaderboard.rankOf(gameId, userId);
     }
 
+    // 실시간 순위표 구독 (SSE)
     @Override
-    @Transactional(readOnly = true)
-    public List<GameScoreResponse> getUserGameScores(Long userId) {
+    public SseEmitter subscribeLeaderboard(Long gameId) {
+
+        gameRegistry.get(gameId);
+        return leaderboardBroadcaster.subscribe(gameId);
+    }
+
+    /* 헬퍼 메소드 */
+    private List<GameScoreResponse> loadUserGameScores(Long userId) {
+
+        // DB 조회 전에 대기 기록을 먼저 가져옴 (그 사이 반영되더라도 DB 결과에 포함됨)
+        Map<Long, ScoreWriteBuffer.PendingScore> pending = scoreWriteBuffer.pendingOf(userId);
+        Map<Long, GameScoreResponse> scores = new LinkedHashMap<>();
+
+        for (GameScoreRepository.UserScoreRow row : gameScoreRepository.findUserScoreRows(userId)) {
+            scores.put(row.getGameId(), GameScoreResponse.builder()
+                    .gameId(row.getGameId())
+                    .gameName(String.valueOf(row.getGameName()))
+                    .highScore(row.getHighScore())
+                    .updatedAt(row.getPlayedAt())
+                    .build());
+        }
+
+        pending.forEach((gameId, record) -> {
+            GameScoreResponse stored = scores.get(gameId);
+            if (stored != null && stored.getHighScore() >= record.getScore()) return;
 
-        List<GameScore> scores = gameScoreRepository.findAllByUser_Id(userId);
+            scores.put(gameId, GameScoreResponse.builder()
+                    .gameId(gameId)
+                    .gameName(String.valueOf(gameRegistry.get(gameId).getGameName()))
+                    .highScore(record.getScore())
+                    .updatedAt(record.getAchievedAt())
+                    .build());
+        });
 
-        return scores.stream()
-                .map(score -> GameScoreResponse.builder()
-                        .gameId(score.getGame().getId())
-                        .gameName(String.valueOf(score.getGame().getGameName()))
-                        .highScore(score.getHighScore())
-                        .updatedAt(score.getPlayedAt())
-                        .build())
-                .collect(Collectors.toList());
+        return new ArrayList<>(scores.values());
     }
 }
@@ -0,0 +1,159 @@
+package com.englishapp.api_server.game.service.impl;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
+import com.englishapp.api_server.game.pool.GameContentPool;
+import com.englishapp.api_server.game.pool.SeededContentCache;
+import com.englishapp.api_server.util.MazeGenerator;
+import com.englishapp.api_server.util.MazeLayout;
+import com.englishapp.api_server.util.MazeValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MazeAdventure 미로 공급
+ * 백그라운드에서 레벨별로 미리 생성 + 검증(MazeValidator)을 통과한 미로만 풀에 보관하고,
+ * 요청 스레드는 풀에서 꺼내기만 함 (비어있으면 같은 검증을 거쳐 동기 생성)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MazeServiceImpl {
+
+    // 시작 -> 열쇠 최소 이동 수 (이보다 가까우면 열쇠가 입구 바로 앞이라 의미 없음)
+    private static final int MIN_KEY_DISTANCE = 3;
+
+    private final SeededContentCache seededContentCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.pool.maze.capacity:30}")
+    private int poolCapacity;
+
+    @Value("${game.pool.maze.low-water-mark:10}")
+    private int poolLowWaterMark;
+
+    @Value("${game.maze.max-attempts:20}")
+    private int maxAttempts;  // 검증 통과 미로가 나올 때까지 최대 생성 횟수
+
+    // 레벨별로 미리 생성해 둔 미로 풀 (ArrayBlockingQueue 기반 링 버퍼)
+    private GameContentPool<MazeLayout> mazePool;
+
+    @PostConstruct
+    public void initPool() {
+        mazePool = new GameContentPool<>("MAZEADVENTURE", poolCapacity, poolLowWaterMark,
+                level -> generateMaze(level, ThreadLocalRandom.current()), meterRegistry);
+    }
+
+    // 기동 완료 후 모든 레벨 예열
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpPool() {
+        mazePool.fillAll();
+    }
+
+    @PreDestroy
+    public void shutdownPool() {
+        mazePool.shutdown();
+    }
+
+    /**
+     * 미로 1개 반환
+     *
+     * @param seed 지정 시 같은 시드끼리 같은 미로 (풀을 거치지 않고 시드 캐시 사용)
+     */
+    public MazeLayout getMaze(GameLevel level, Long seed) {
+
+        if (seed != null) {
+            return seededContentCache.get(GameName.MAZEADVENTURE, level, seed,
+                    () -> generateMaze(level, new Random(seed)));
+        }
+
+        MazeLayout layout = mazePool.poll(level);
+        return layout != null ? layout : generateMaze(level, ThreadLocalRandom.current());
+    }
+
+    // 검증을 통과할 때까지 생성 (풀 채우기 스레드, Fallback, 시드 생성에서 호출)
+    public MazeLayout generateMaze(GameLevel level, Random random) {
+
+        // 1. 난이도 별 설정값(크기, 함정 수)
+        MazeSpec spec = MazeSpec.of(level);
+        int size = spec.size;
+        int trapCount = spec.trapCount;
+
+        // 1단계(5x5)는 정답 경로가 짧아 열쇠/문이 배치되지 않으므로 탈출 가능 여부만 확인
+        boolean requireKeyDoor = level != GameLevel.FIRST;
+
+        // 2. 생성 -> 검증, 통과하지 못하면 다시 생성
+        MazeLayout passable = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            MazeLayout layout = MazeGenerator.generateLayout(size, size, trapCount, random);
+            MazeValidator.ValidationResult result = MazeValidator.validateLayout(layout);
+
+            if (!result.isPassable) {
+                rejectedCounter(level, "blocked").increment();
+                continue;
+            }
+            if (!requireKeyDoor || isNonTrivial(result)) {
+                return layout;
+            }
+
+            rejectedCounter(level, "trivial").increment();
+            passable = layout;
+        }
+
+        // 3. 모두 실패하면 탈출 가능한 것이라도 사용
+        if (passable != null) {
+            log.warn("{} 레벨 미로: {}회 안에 조건을 만족하는 미로를 만들지 못해 탈출 가능한 미로로 대체", level, maxAttempts);
+            return passable;
+        }
+        throw new RuntimeException("탈출 가능한 미로 생성 실패");
+    }
+
+    /* 헬퍼 메소드 */
+    // 문이 실제로 길을 막고, 열쇠가 입구 바로 앞에 있지 않아야 함
+    private boolean isNonTrivial(MazeValidator.ValidationResult result) {
+        return result.keyRequired && result.keyDistance >= MIN_KEY_DISTANCE;
+    }
+
+    private Counter rejectedCounter(GameLevel level, String reason) {
+        return Counter.builder("game.maze.rejected")
+                .tag("level", level.name()).tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // 레벨별 미로 설정 (크기, 함정 수) - 벤치마크도 같은 설정 사용
+    @Getter
+    public static final class MazeSpec {
+
+        private final int size;
+        private final int trapCount;
+
+        private MazeSpec(int size, int trapCount) {
+            this.size = size;
+            this.trapCount = trapCount;
+        }
+
+        public static MazeSpec of(GameLevel level) {
+            switch (level) {
+                case FIRST:  return new MazeSpec(5, 2);
+                case SECOND: return new MazeSpec(7, 3);
+                case THIRD:  return new MazeSpec(9, 4);
+                // 미로 생성기가 반복문 기반으로 바뀌어 큰 미로도 안전 (벽/길 구조상 홀수 크기 사용)
+                case FOURTH: return new MazeSpec(11, 5);
+                case FIFTH:  return new MazeSpec(13, 6);
+                default:     return new MazeSpec(6, 2);
+            }
+        }
+    }
+}
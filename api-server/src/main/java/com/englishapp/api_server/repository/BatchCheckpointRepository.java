@@ -0,0 +1,13 @@
+package com.englishapp.api_server.repository;
+
+import com.englishapp.api_server.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, Long> {
+
+    Optional<BatchCheckpoint> findByJobNameAndStepName(String jobName, String stepName);
+}
@@ -1,7 +1,9 @@
 package com.englishapp.api_server.repository;
 
 import com.englishapp.api_server.entity.Sentence;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,11 @@ import java.util.List;
 public interface SentenceRepository extends JpaRepository<Sentence, Long> {
 
     List<Sentence> findByAudioUrlIsNull();
+
+    /* 오디오 생성 배치 keyset 읽기 - ID 이후 audioUrl 없는 행을 ID 순으로 limit개 */
+    List<Sentence> findByAudioUrlIsNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /* 오디오 중복 제거용 - 이미 저장된 음성 파일 경로 */
+    @Query("SELECT DISTINCT s.audioUrl FROM Sentence s WHERE s.audioUrl IS NOT NULL")
+    List<String> findDistinctAudioUrls();
 }
@@ -3,6 +3,8 @@ package com.englishapp.api_server.repository;
 import com.englishapp.api_server.domain.UserStatus;
 import com.englishapp.api_server.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이름으로 검색
     List<User> findByUsernameContaining(String keyword);
+
+    // 이름만 조회 (존재 확인 겸용, 엔티티 로딩 없음)
+    @Query("SELECT u.username FROM User u WHERE u.id = :userId")
+    Optional<String> findUsernameById(@Param("userId") Long userId);
 }
@@ -1,6 +1,8 @@
 package com.englishapp.api_server.repository;
 
+import com.englishapp.api_server.domain.EnglishType;
 import com.englishapp.api_server.entity.Word;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +15,16 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     List<Word> findByAudioUrlIsNull();
 
+    /* 오디오 생성 배치 keyset 읽기 - ID 이후 audioUrl 없는 행을 ID 순으로 limit개 */
+    List<Word> findByAudioUrlIsNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /* 오디오 중복 제거용 - 이미 저장된 음성 파일 경로 */
+    @Query("SELECT DISTINCT w.audioUrl FROM Word w WHERE w.audioUrl IS NOT NULL")
+    List<String> findDistinctAudioUrls();
+
+    /* 단어 카탈로그 적재용 (ID 순으로 읽어 마지막 ID 이후만 증분 조회) */
+    List<Word> findByTypeAndIdGreaterThanOrderByIdAsc(EnglishType type, Long id);
+
     /* FallingWords 단어 랜덤으로 가져오기 */
     // MySQL의 "ORDER BY RAND()"를 사용하여 랜덤 추출
     @Query(value = "SELECT * FROM words w " +
@@ -2,6 +2,9 @@ package com.englishapp.api_server.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
 public interface FileStorageService {
 
     /**
@@ -21,4 +24,24 @@ public interface FileStorageService {
      * @return 저장된 파일의 접근 경로
      **/
     String storeFile(byte[] data, String fileName, String subPath);
+
+    /**
+     * 스트림을 끝까지 읽어 파일로 저장 (파일 전체를 메모리에 올리지 않음)
+     *
+     * @param in       저장할 데이터 (닫지 않음 - 호출한 쪽에서 닫을 것)
+     * @param fileName 저장할 파일 이름(예: "1.mp3")
+     * @param subPath  "sentences", "words" 등 파일을 저장할 하위 경로
+     * @return 저장된 파일의 접근 경로
+     **/
+    String storeFile(InputStream in, String fileName, String subPath);
+
+    /**
+     * 채널을 끝까지 읽어 파일로 저장 (파일 전체를 메모리에 올리지 않음)
+     *
+     * @param source   저장할 데이터 (닫지 않음 - 호출한 쪽에서 닫을 것)
+     * @param fileName 저장할 파일 이름(예: "1.mp3")
+     * @param subPath  "sentences", "words" 등 파일을 저장할 하위 경로
+     * @return 저장된 파일의 접근 경로
+     **/
+    String storeFile(ReadableByteChannel source, String fileName, String subPath);
 }
@@ -9,4 +9,10 @@ public interface GoogleTtsService {
      * @return MP3 형식의 음성 데이터
      **/
     byte[] synthesizeText(String text);
+
+    /**
+     * 음성 설정 식별값 (언어, 음성, 속도 등)
+     * 같은 텍스트라도 이 값이 다르면 다른 음성 파일로 취급 (오디오 중복 제거 키에 포함)
+     **/
+    String voiceKey();
 }
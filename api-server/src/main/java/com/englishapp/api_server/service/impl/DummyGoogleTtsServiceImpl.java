@@ -2,6 +2,7 @@ package com.englishapp.api_server.service.impl;
 
 import com.englishapp.api_server.service.GoogleTtsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -10,12 +11,31 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class DummyGoogleTtsServiceImpl implements GoogleTtsService {
 
+    // 실제 API 응답 시간을 흉내내는 지연 (배치 파이프라인 동시성 확인용, 0이면 지연 없음)
+    @Value("${tts.dummy.latency-ms:0}")
+    private long latencyMs;
+
     @Override
     public byte[] synthesizeText(String text) {
 
         // 실제 API를 호출하지 않고, 더미 데이터를 반환합니다.
         log.warn("DUMMY TTS SERVICE: '{}'에 대한 음성을 생성하는 척합니다.", text);
+
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("TTS 호출 중단", e);
+            }
+        }
+
         // 비어있는 byte 배열을 반환하여 NullPointerException을 방지합니다.
         return new byte[0];
     }
+
+    @Override
+    public String voiceKey() {
+        return "dummy";
+    }
 }
@@ -1,25 +1,103 @@
 package com.englishapp.api_server.service.impl;
 
 import com.englishapp.api_server.service.FileStorageService;
+import com.englishapp.api_server.util.ChannelCopier;
+import com.englishapp.api_server.util.FileNames;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Google Cloud Storage 파일 저장
+ * 스트림/채널 저장은 resumable upload(WriteChannel)로 chunkSize씩 나눠 올림 (파일 크기와 상관없이 메모리 사용량 고정)
+ * 반환 경로는 로컬 저장과 같은 형식 (subPath/파일이름, 버킷 안의 객체 이름)
+ */
 @Service
 @Profile("prod")  // prod 프로필일 때만 활성화
+@Slf4j
+@RequiredArgsConstructor
 public class GcsFileStorageServiceImpl implements FileStorageService {
 
-    // TODO: Google Cloud Storage 연동 로직 구현
+    private final Storage storage;
+
+    @Value("${file.gcs.bucket}")
+    private String bucket;
+
+    @Value("${file.gcs.upload-chunk-size:2097152}")
+    private int uploadChunkSize;  // resumable upload 한 번에 보내는 크기 (256KB의 배수)
 
     @Override
     public String storeFile(MultipartFile file, String subPath) {
-        // 나중에 실제 GCS 업로드 로직 구현
-        throw new UnsupportedOperationException("GCS 파일 저장이 아직 구현되지 않았습니다.");
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 비어있음");
+        }
+
+        String storedFileName = FileNames.storedName(file.getOriginalFilename());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return storeFile(inputStream, storedFileName, subPath);
+        } catch (IOException e) {
+            log.error("GCS 파일 저장 실패: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("Failed to store file.", e);
+        }
     }
 
     @Override
     public String storeFile(byte[] data, String fileName, String subPath) {
-        // 나중에 실제 GCS 업로드 로직 구현
-        throw new UnsupportedOperationException("GCS 파일 저장이 아직 구현되지 않았습니다.");
+
+        // 이미 메모리에 있는 작은 데이터는 요청 한 번으로 (resumable 세션 생성 비용 없음)
+        String objectName = objectName(subPath, fileName);
+        storage.create(blobInfo(objectName), data);
+        log.info("[{}] GCS 데이터 파일 저장 성공: {}", subPath, fileName);
+        return objectName;
+    }
+
+    @Override
+    public String storeFile(InputStream in, String fileName, String subPath) {
+        return storeFile(Channels.newChannel(in), fileName, subPath);
+    }
+
+    @Override
+    public String storeFile(ReadableByteChannel source, String fileName, String subPath) {
+
+        String objectName = objectName(subPath, fileName);
+
+        // 닫을 때 마지막 조각을 보내고 업로드 완료 (중간에 실패하면 객체가 만들어지지 않음)
+        try (WriteChannel writer = storage.writer(blobInfo(objectName))) {
+            writer.setChunkSize(uploadChunkSize);
+            long size = ChannelCopier.copy(source, writer);
+            log.info("[{}] GCS 파일 저장 성공: {} ({} bytes)", subPath, fileName, size);
+            return objectName;
+
+        } catch (IOException e) {
+            log.error("GCS 파일 저장 실패: {}", fileName, e);
+            throw new RuntimeException("Failed to store file", e);
+        }
+    }
+
+    /* 헬퍼 메소드 */
+    private String objectName(String subPath, String fileName) {
+        return subPath + "/" + fileName;
+    }
+
+    private BlobInfo blobInfo(String objectName) {
+        String contentType = MediaTypeFactory.getMediaType(objectName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return BlobInfo.newBuilder(BlobId.of(bucket, objectName)).setContentType(contentType).build();
     }
 }
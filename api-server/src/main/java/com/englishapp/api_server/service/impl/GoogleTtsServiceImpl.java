@@ -2,6 +2,7 @@ package com.englishapp.api_server.service.impl;
 
 import com.englishapp.api_server.service.GoogleTtsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,15 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class GoogleTtsServiceImpl implements GoogleTtsService {
 
+    @Value("${tts.voice.language-code:en-US}")
+    private String languageCode;
+
+    @Value("${tts.voice.name:en-US-Neural2-F}")
+    private String voiceName;
+
+    @Value("${tts.voice.speaking-rate:1.0}")
+    private double speakingRate;
+
     @Override
     public byte[] synthesizeText(String text) {
 
@@ -18,7 +28,7 @@ public class GoogleTtsServiceImpl implements GoogleTtsService {
         // TODO: 실제 Google Cloud TTS API 연동 코드 구현
         // 1. TextToSpeechClient 초기화
         // 2. SynthesisInput 설정 (text)
-        // 3. VoiceSelectionParams 설정 (언어, 음성 등)
+        // 3. VoiceSelectionParams 설정 (언어, 음성 등 - languageCode, voiceName, speakingRate)
         // 4. AudioConfig 설정 (MP3)
         // 5. API 호출 (client.synthesizeSpeech(...))
         // 6. 응답에서 오디오 콘텐츠(ByteString)를 byte[]로 변환하여 반환
@@ -30,4 +40,9 @@ public class GoogleTtsServiceImpl implements GoogleTtsService {
         // 실제로는 API 응답 바이트 배열을 반환해야 함
         return text.getBytes();
     }
+
+    @Override
+    public String voiceKey() {
+        return languageCode + "|" + voiceName + "|" + speakingRate;
+    }
 }
@@ -1,6 +1,8 @@
 package com.englishapp.api_server.service.impl;
 
 import com.englishapp.api_server.service.FileStorageService;
+import com.englishapp.api_server.util.ChannelCopier;
+import com.englishapp.api_server.util.FileNames;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,12 +10,19 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.UUID;
 
 @Service
@@ -46,25 +55,15 @@ public class LocalFileStorageServiceImpl implements FileStorageService {
             throw new IllegalArgumentException("업로드할 파일이 비어있음");
         }
 
-        try {
-            String originalFileName = file.getOriginalFilename();
-            String storedFileName = UUID.randomUUID().toString() + "-" + originalFileName;
-
-            // subPath 경로 생성 (예: uploads/images)
-            Path destinationPath = createSubPath(subPath);
-
-            Path destinationFile =
-                    destinationPath.resolve(Paths.get(storedFileName)).normalize().toAbsolutePath();
-
-            try (InputStream inputStream = file.getInputStream()) {
-                Files.copy(inputStream, destinationFile, StandardCopyOption.REPLACE_EXISTING);
-            }
+        String originalFileName = file.getOriginalFilename();
+        String storedFileName = FileNames.storedName(originalFileName);
 
+        // DB에 저장할 상대 경로 반환 (예: /uploads/images/uuid_image.jpg)
+        // 실제 서비스 시에는 도메인을 포함한 전체 URL을 반환하도록 구성
+        try (InputStream inputStream = file.getInputStream()) {
+            String storedPath = storeFile(inputStream, storedFileName, subPath);
             log.info("[{}] 파일 저장 성공: {}", subPath, originalFileName);
-
-            // DB에 저장할 상대 경로 반환 (예: /uploads/images/uuid_image.jpg)
-            // 실제 서비스 시에는 도메인을 포함한 전체 URL을 반환하도록 구성
-            return Paths.get(subPath).resolve(storedFileName).toString().replace("\\", "/");
+            return storedPath;
 
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", file.getOriginalFilename(), e);
@@ -75,18 +74,90 @@ public class LocalFileStorageServiceImpl implements FileStorageService {
     @Override
     public String storeFile(byte[] data, String fileName, String subPath) {
 
+        // 이미 메모리에 있는 데이터는 버퍼 복사 없이 그대로 씀
+        String storedPath = write(fileName, subPath, out -> {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        });
+        log.info("[{}] 데이터 파일 저장 성공: {}", subPath, fileName);
+        return storedPath;
+    }
+
+    @Override
+    public String storeFile(InputStream in, String fileName, String subPath) {
+
+        // 파일 스트림이면 채널로 커널 안에서 복사
+        if (in instanceof FileInputStream fileInputStream) {
+            return storeFile(fileInputStream.getChannel(), fileName, subPath);
+        }
+        return storeFile(Channels.newChannel(in), fileName, subPath);
+    }
+
+    @Override
+    public String storeFile(ReadableByteChannel source, String fileName, String subPath) {
+
+        return write(fileName, subPath, out -> {
+            if (source instanceof FileChannel fileSource) {
+                // 파일 -> 파일은 transferFrom (유저 영역 버퍼 없음)
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(fileSource, position, ChannelCopier.BUFFER_SIZE * 16L)) > 0) {
+                    position += transferred;
+                }
+            } else {
+                ChannelCopier.copy(source, out);
+            }
+        });
+    }
+
+    /* 헬퍼 메소드 */
+    /**
+     * 같은 폴더의 임시 파일(.part)에 다 쓴 뒤 최종 이름으로 이동
+     * 쓰는 도중 실패하거나 중단돼도 반쯤 쓰인 파일이 최종 경로에 보이지 않음
+     * 임시 파일 이름은 원래 파일 이름과 무관하게 만듦 (이름 길이 제한/경로 문자 문제 없음, 권한은 일반 파일과 같음)
+     */
+    private String write(String fileName, String subPath, ChannelWriter writer) {
+
+        Path tempFile = null;
         try {
             Path destinationPath = createSubPath(subPath);
             Path destinationFile = destinationPath.resolve(Paths.get(fileName)).normalize().toAbsolutePath();
 
-            Files.write(destinationFile, data);
-            log.info("[{}] 데이터 파일 저장 성공: {}", subPath, fileName);
+            tempFile = destinationPath.resolve("." + UUID.randomUUID() + ".part");
+            try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.writeTo(out);
+            }
+            moveIntoPlace(tempFile, destinationFile);
 
             return Paths.get(subPath).resolve(fileName).toString().replace("\\", "/");
 
         } catch (IOException e) {
             log.error("데이터 파일 저장 실패: {}", fileName, e);
+            deleteQuietly(tempFile);
             throw new RuntimeException("Failed to store file", e);
+        } catch (RuntimeException e) {
+            // 잘못된 파일 이름(InvalidPathException) 등 - 임시 파일을 남기지 않음
+            deleteQuietly(tempFile);
+            throw e;
+        }
+    }
+
+    private void moveIntoPlace(Path tempFile, Path destinationFile) throws IOException {
+        try {
+            Files.move(tempFile, destinationFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, destinationFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
         }
     }
 
@@ -100,5 +171,10 @@ public class LocalFileStorageServiceImpl implements FileStorageService {
 
         return destinationPath;
     }
-}
 
+    @FunctionalInterface
+    private interface ChannelWriter {
+
+        void writeTo(FileChannel out) throws IOException;
+    }
+}
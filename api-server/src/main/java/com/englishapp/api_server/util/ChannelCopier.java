@@ -0,0 +1,40 @@
+package com.englishapp.api_server.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 채널 간 스트리밍 복사
+ * 스레드마다 direct buffer 하나를 재사용 (파일 크기와 상관없이 메모리 사용량 고정, 힙 -> 네이티브 복사 없음)
+ */
+public final class ChannelCopier {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private ChannelCopier() {
+    }
+
+    /**
+     * source를 끝까지 읽어 target에 씀 (두 채널 모두 닫지 않음)
+     *
+     * @return 복사한 바이트 수
+     */
+    public static long copy(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+        long total = 0;
+
+        while (source.read(buffer) >= 0 || buffer.position() > 0) {
+            buffer.flip();
+            total += target.write(buffer);
+            buffer.compact();  // 다 못 쓴 나머지는 앞으로 당겨 다음 회차에 이어서
+        }
+        return total;
+    }
+}
@@ -0,0 +1,38 @@
+package com.englishapp.api_server.util;
+
+import java.util.UUID;
+
+/**
+ * 업로드 파일 이름 정리
+ * 클라이언트가 보낸 원본 이름은 경로 구분자나 ../ 등을 담을 수 있으므로 그대로 객체 이름/경로에 쓰지 않음
+ */
+public final class FileNames {
+
+    private static final int MAX_LENGTH = 100;
+
+    private FileNames() {
+    }
+
+    /**
+     * 저장용 파일 이름 (UUID-정리된원본이름)
+     */
+    public static String storedName(String originalFileName) {
+        String safe = sanitize(originalFileName);
+        return safe.isEmpty() ? UUID.randomUUID().toString() : UUID.randomUUID() + "-" + safe;
+    }
+
+    /**
+     * 마지막 경로 구분자 뒤의 이름만 남기고 [A-Za-z0-9._-] 밖의 문자는 '_'로 바꿈 (앞쪽 '.'은 제거)
+     */
+    public static String sanitize(String originalFileName) {
+        if (originalFileName == null) {
+            return "";
+        }
+        String baseName = originalFileName.substring(
+                Math.max(originalFileName.lastIndexOf('/'), originalFileName.lastIndexOf('\\')) + 1);
+
+        String safe = baseName.replaceAll("[^A-Za-z0-9._-]", "_").replaceFirst("^\\.+", "");
+        // 확장자가 남도록 뒤쪽을 유지
+        return safe.length() > MAX_LENGTH ? safe.substring(safe.length() - MAX_LENGTH) : safe;
+    }
+}
@@ -4,235 +4,259 @@ import com.englishapp.api_server.game.domain.MazeCellType;
 import com.englishapp.api_server.game.domain.MazeItemType;
 import com.englishapp.api_server.game.dto.response.MazeAdventureResponse;
 
-import java.util.*;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 미로 생성기 (Recursive Backtracker)
+ * 1차원 byte 배열 + 명시적 스택으로 구현하여 큰 미로(201x201 이상)에서도 스택 오버플로 없이 수 ms 안에 생성
+ */
 public class MazeGenerator {
 
-    private static final int[] DR = {-2, 2, 0, 0};
-    private static final int[] DC = {0, 0, -2, 2};
-    // BFS 탐색용 상하좌우 (1칸씩)
-    private static final int[] MOVE_R = {-1, 1, 0, 0};
-    private static final int[] MOVE_C = {0, 0, -1, 1};
+    private static final byte PATH = (byte) MazeCellType.PATH.getValue();
+    private static final byte WALL = (byte) MazeCellType.WALL.getValue();
+    private static final byte START = (byte) MazeCellType.START.getValue();
+    private static final byte EXIT = (byte) MazeCellType.EXIT.getValue();
+
+    // 상하좌우 (carve는 2칸, BFS는 1칸 단위)
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    // 4방향의 모든 순열 24가지 - 칸마다 셔플 대신 하나를 골라 사용
+    private static final byte[][] DIRECTION_PERMUTATIONS = buildPermutations();
 
     public static MazeAdventureResponse generate(int rows, int cols, int trapCount) {
+        return generateLayout(rows, cols, trapCount, ThreadLocalRandom.current()).toResponse();
+    }
+
+    public static MazeLayout generateLayout(int rows, int cols, int trapCount, Random random) {
+
         // 1. 초기화 (전체 벽)
-        List<List<Integer>> grid = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            List<Integer> row = new ArrayList<>(Collections.nCopies(cols, MazeCellType.WALL.getValue()));
-            grid.add(row);
-        }
+        byte[] cells = new byte[rows * cols];
+        Arrays.fill(cells, WALL);
 
         // 2. 길 뚫기 (1,1에서 시작)
-        carve(grid, 1, 1);
+        carve(cells, rows, cols, 1, 1, random);
 
         // 3. 입구(Start)와 출구(Exit) 뚫기
-        grid.get(0).set(1, MazeCellType.START.getValue());
-        grid.get(1).set(1, MazeCellType.PATH.getValue()); // 입구 앞 길
-
-        MazeAdventureResponse.Position startPos = new MazeAdventureResponse.Position(0, 1);
-        MazeAdventureResponse.Position exitPos = setExitPointOnEdge(grid, rows, cols);
+        int startCell = 1;                 // (0, 1)
+        cells[startCell] = START;
+        cells[cols + 1] = PATH;            // 입구 앞 길 (1, 1)
+        int exitCell = setExitPointOnEdge(cells, rows, cols);
 
         // 4. [핵심] 정답 경로(Solution Path) 찾기 (Start -> Exit)
-        List<Point> solutionPath = findSolutionPath(grid, startPos, exitPos);
+        int[] solutionPath = findSolutionPath(cells, rows, cols, startCell, exitCell);
 
         // 5. 아이템 배치 (Solution Path 정보를 활용하여 Key/Door 배치)
-        List<MazeAdventureResponse.Item> items = placeItems(grid, trapCount, solutionPath);
-
-        return MazeAdventureResponse.builder()
-                .width(cols)
-                .height(rows)
-                .startPosition(startPos)
-                .grid(grid)
-                .items(items)
-                .build();
+        List<MazeAdventureResponse.Item> items = placeItems(cells, rows, cols, trapCount, solutionPath, random);
+
+        return new MazeLayout(rows, cols, cells, startCell, exitCell,
+                solutionPath == null ? 0 : solutionPath.length, items);
     }
 
     // =========================================================
     // 🗝️ Key & Door 배치 로직 (핵심)
     // =========================================================
     private static List<MazeAdventureResponse.Item> placeItems(
-            List<List<Integer>> grid, int trapCount, List<Point> solutionPath) {
+            byte[] cells, int rows, int cols, int trapCount, int[] solutionPath, Random random) {
 
-        List<MazeAdventureResponse.Item> items = new ArrayList<>();
-        Random random = new Random();
-        int rows = grid.size();
-        int cols = grid.get(0).size();
+        List<MazeAdventureResponse.Item> items = new ArrayList<>(trapCount + 3);
+        boolean[] hasItem = new boolean[cells.length];
 
         // 1. Key & Door 배치 (반드시 1세트 배치)
-        if (solutionPath != null && solutionPath.size() > 10) {
+        if (solutionPath != null && solutionPath.length > 10) {
             // 경로가 너무 짧으면 배치 안함 (예외 처리)
 
             // A. 문(Door) 위치 선정: 전체 경로의 50% ~ 90% 사이 지점 중 하나
             // (출구 바로 앞은 피하기 위해 -2)
-            int minDoorIdx = (int)(solutionPath.size() * 0.5);
-            int maxDoorIdx = solutionPath.size() - 2;
+            int minDoorIdx = (int) (solutionPath.length * 0.5);
+            int maxDoorIdx = solutionPath.length - 2;
             int doorPathIdx = random.nextInt(maxDoorIdx - minDoorIdx + 1) + minDoorIdx;
-
-            Point doorPoint = solutionPath.get(doorPathIdx);
-            items.add(new MazeAdventureResponse.Item(doorPoint.r, doorPoint.c, MazeItemType.DOOR));
+            addItem(items, hasItem, solutionPath[doorPathIdx], cols, MazeItemType.DOOR);
 
             // B. 열쇠(Key) 위치 선정: 시작점(index 1) ~ 문 위치(index doorPathIdx - 1) 사이
             // 0번 인덱스는 시작점(START)이므로 제외
             int keyPathIdx = random.nextInt(doorPathIdx - 1) + 1;
-            Point keyPoint = solutionPath.get(keyPathIdx);
-            items.add(new MazeAdventureResponse.Item(keyPoint.r, keyPoint.c, MazeItemType.KEY));
+            addItem(items, hasItem, solutionPath[keyPathIdx], cols, MazeItemType.KEY);
 
         } else {
             // 경로 탐색 실패 시 랜덤 배치 (Fallback)
-            placeSingleItem(grid, items, MazeItemType.KEY, random, rows, cols);
-            // 문은 경로를 막지 못하면 의미가 없으므로 Fallback에선 생략하거나 랜덤 배치
+            placeSingleItem(cells, rows, cols, items, hasItem, MazeItemType.KEY, random);
+            // 문은 경로를 막지 못하면 의미가 없으므로 Fallback에선 생략
         }
 
         // 2. 손전등 (Flashlight) 배치 - 랜덤 (길 위 아무데나)
         if (random.nextBoolean()) {
-            placeSingleItem(grid, items, MazeItemType.FLASHLIGHT, random, rows, cols);
+            placeSingleItem(cells, rows, cols, items, hasItem, MazeItemType.FLASHLIGHT, random);
         }
 
         // 3. 함정 (Trap) 배치 - 랜덤
         for (int i = 0; i < trapCount; i++) {
             MazeItemType trapType = random.nextBoolean() ? MazeItemType.TRAP_GHOST : MazeItemType.TRAP_HOLE;
-            placeSingleItem(grid, items, trapType, random, rows, cols);
+            placeSingleItem(cells, rows, cols, items, hasItem, trapType, random);
         }
 
         return items;
     }
 
     // =========================================================
-    // 🧠 BFS 경로 탐색 (Solver)
+    // 🧠 BFS 경로 탐색 (Solver) - int 배열 큐, 부모 칸 번호 배열로 역추적
     // =========================================================
-    private static List<Point> findSolutionPath(
-            List<List<Integer>> grid,
-            MazeAdventureResponse.Position start,
-            MazeAdventureResponse.Position exit) {
-
-        int rows = grid.size();
-        int cols = grid.get(0).size();
-        boolean[][] visited = new boolean[rows][cols];
-        // 경로 역추적을 위한 부모 노드 저장 맵: Child -> Parent
-        Map<Point, Point> parentMap = new HashMap<>();
+    private static int[] findSolutionPath(byte[] cells, int rows, int cols, int startCell, int exitCell) {
 
-        Queue<Point> queue = new LinkedList<>();
-        Point startPt = new Point(start.getRow(), start.getCol());
-        queue.add(startPt);
-        visited[startPt.r][startPt.c] = true;
+        int[] parent = new int[cells.length];
+        Arrays.fill(parent, -1);
+        int[] queue = new int[cells.length];
+        int head = 0;
+        int tail = 0;
 
-        Point exitPt = null;
+        queue[tail++] = startCell;
+        parent[startCell] = startCell;
 
-        while(!queue.isEmpty()) {
-            Point curr = queue.poll();
+        while (head < tail) {
+            int curr = queue[head++];
 
             // 도착점 도달 확인
-            if (curr.r == exit.getRow() && curr.c == exit.getCol()) {
-                exitPt = curr;
-                break;
-            }
+            if (curr == exitCell) break;
+
+            int r = curr / cols;
+            int c = curr % cols;
 
             // 4방향 탐색
-            for(int i=0; i<4; i++) {
-                int nr = curr.r + MOVE_R[i];
-                int nc = curr.c + MOVE_C[i];
-
-                if(nr >=0 && nr < rows && nc >= 0 && nc < cols && !visited[nr][nc]) {
-                    int cellVal = grid.get(nr).get(nc);
-                    // 벽(1)이 아니면 이동 가능 (0, 2, 3)
-                    if(cellVal != MazeCellType.WALL.getValue()) {
-                        visited[nr][nc] = true;
-                        Point next = new Point(nr, nc);
-                        queue.add(next);
-                        parentMap.put(next, curr); // 경로 기록
-                    }
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+
+                int next = nr * cols + nc;
+                // 벽(1)이 아니면 이동 가능 (0, 2, 3)
+                if (parent[next] == -1 && cells[next] != WALL) {
+                    parent[next] = curr;  // 경로 기록
+                    queue[tail++] = next;
                 }
             }
         }
 
         // 경로가 없으면 null 반환
-        if (exitPt == null) return null;
-
-        // 역추적하여 경로 리스트 생성 (Exit -> Start)
-        List<Point> path = new ArrayList<>();
-        Point curr = exitPt;
-        while(curr != null) {
-            path.add(curr);
-            curr = parentMap.get(curr);
-        }
-        // Start -> Exit 순서로 뒤집기
-        Collections.reverse(path);
-        return path;
-    }
+        if (parent[exitCell] == -1) return null;
 
-    // 좌표 클래스 (Helper)
-    private static class Point {
-        int r, c;
-        Point(int r, int c) { this.r = r; this.c = c; }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Point point = (Point) o;
-            return r == point.r && c == point.c;
-        }
+        // 역추적하여 경로 길이 계산 후 Start -> Exit 순서로 채움
+        int length = 1;
+        for (int cell = exitCell; cell != startCell; cell = parent[cell]) length++;
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(r, c);
+        int[] path = new int[length];
+        int cell = exitCell;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = cell;
+            cell = parent[cell];
         }
+        return path;
     }
 
     // =========================================================
     // 🧱 기본 생성 로직 (Carve, Edge Exit)
     // =========================================================
-    private static void carve(List<List<Integer>> grid, int r, int c) {
-        grid.get(r).set(c, MazeCellType.PATH.getValue());
-        List<Integer> directions = Arrays.asList(0, 1, 2, 3);
-        Collections.shuffle(directions);
-
-        for (int dir : directions) {
-            int nr = r + DR[dir];
-            int nc = c + DC[dir];
-
-            if (nr > 0 && nr < grid.size() - 1 && nc > 0 && nc < grid.get(0).size() - 1
-                    && grid.get(nr).get(nc) == MazeCellType.WALL.getValue()) {
-                grid.get(r + DR[dir] / 2).set(c + DC[dir] / 2, MazeCellType.PATH.getValue());
-                carve(grid, nr, nc);
+    // 재귀 대신 명시적 스택 사용 (스택에는 칸 번호, 사용할 방향 순열, 다음에 볼 방향 위치를 보관)
+    private static void carve(byte[] cells, int rows, int cols, int startR, int startC, Random random) {
+
+        int capacity = ((rows + 1) / 2) * ((cols + 1) / 2) + 1;  // 동시에 쌓일 수 있는 최대 칸 수
+        int[] stackCell = new int[capacity];
+        byte[] stackPerm = new byte[capacity];
+        byte[] stackNext = new byte[capacity];
+        int top = 0;
+
+        int start = startR * cols + startC;
+        cells[start] = PATH;
+        stackCell[top] = start;
+        stackPerm[top] = (byte) random.nextInt(DIRECTION_PERMUTATIONS.length);
+        stackNext[top] = 0;
+        top++;
+
+        while (top > 0) {
+            int frame = top - 1;
+            int cell = stackCell[frame];
+
+            if (stackNext[frame] == 4) {  // 4방향 모두 확인 - 되돌아감
+                top--;
+                continue;
+            }
+
+            int dir = DIRECTION_PERMUTATIONS[stackPerm[frame]][stackNext[frame]++];
+            int r = cell / cols;
+            int c = cell % cols;
+            int nr = r + DR[dir] * 2;
+            int nc = c + DC[dir] * 2;
+
+            if (nr > 0 && nr < rows - 1 && nc > 0 && nc < cols - 1 && cells[nr * cols + nc] == WALL) {
+                cells[(r + DR[dir]) * cols + (c + DC[dir])] = PATH;  // 사이 벽 뚫기
+
+                int next = nr * cols + nc;
+                cells[next] = PATH;
+                stackCell[top] = next;
+                stackPerm[top] = (byte) random.nextInt(DIRECTION_PERMUTATIONS.length);
+                stackNext[top] = 0;
+                top++;
             }
         }
     }
 
-    private static MazeAdventureResponse.Position setExitPointOnEdge(List<List<Integer>> grid, int rows, int cols) {
+    private static int setExitPointOnEdge(byte[] cells, int rows, int cols) {
         for (int c = cols - 2; c > 0; c--) {
-            if (grid.get(rows - 2).get(c) == MazeCellType.PATH.getValue()) {
-                grid.get(rows - 1).set(c, MazeCellType.EXIT.getValue());
-                return new MazeAdventureResponse.Position(rows - 1, c);
+            if (cells[(rows - 2) * cols + c] == PATH) {
+                cells[(rows - 1) * cols + c] = EXIT;
+                return (rows - 1) * cols + c;
             }
         }
         for (int r = rows - 2; r > 0; r--) {
-            if (grid.get(r).get(cols - 2) == MazeCellType.PATH.getValue()) {
-                grid.get(r).set(cols - 1, MazeCellType.EXIT.getValue());
-                return new MazeAdventureResponse.Position(r, cols - 1);
+            if (cells[r * cols + cols - 2] == PATH) {
+                cells[r * cols + cols - 1] = EXIT;
+                return r * cols + cols - 1;
             }
         }
-        grid.get(rows - 1).set(cols - 2, MazeCellType.EXIT.getValue());
-        return new MazeAdventureResponse.Position(rows - 1, cols - 2);
+        cells[(rows - 1) * cols + cols - 2] = EXIT;
+        return (rows - 1) * cols + cols - 2;
     }
 
     // 랜덤 아이템 배치 헬퍼 (함정, 손전등용)
     private static void placeSingleItem(
-            List<List<Integer>> grid, List<MazeAdventureResponse.Item> items,
-            MazeItemType type, Random random, int rows, int cols) {
+            byte[] cells, int rows, int cols, List<MazeAdventureResponse.Item> items, boolean[] hasItem,
+            MazeItemType type, Random random) {
 
-        for(int attempt=0; attempt<50; attempt++) { // 무한루프 방지
+        for (int attempt = 0; attempt < 50; attempt++) { // 무한루프 방지
             int r = random.nextInt(rows - 2) + 1;
             int c = random.nextInt(cols - 2) + 1;
+            int cell = r * cols + c;
 
             boolean isStartArea = (r <= 1 && c == 1);
-            boolean isPath = (grid.get(r).get(c) == MazeCellType.PATH.getValue());
-            boolean hasItem = items.stream().anyMatch(i -> i.getRow() == r && i.getCol() == c);
+            boolean isPath = cells[cell] == PATH;
 
-            if (isPath && !isStartArea && !hasItem) {
-                items.add(new MazeAdventureResponse.Item(r, c, type));
+            if (isPath && !isStartArea && !hasItem[cell]) {
+                addItem(items, hasItem, cell, cols, type);
                 break;
             }
         }
     }
+
+    private static void addItem(List<MazeAdventureResponse.Item> items, boolean[] hasItem,
+                                int cell, int cols, MazeItemType type) {
+        hasItem[cell] = true;
+        items.add(new MazeAdventureResponse.Item(cell / cols, cell % cols, type));
+    }
+
+    private static byte[][] buildPermutations() {
+        byte[][] permutations = new byte[24][];
+        int n = 0;
+
+        for (byte a = 0; a < 4; a++)
+            for (byte b = 0; b < 4; b++)
+                for (byte c = 0; c < 4; c++)
+                    for (byte d = 0; d < 4; d++)
+                        if (a != b && a != c && a != d && b != c && b != d && c != d)
+                            permutations[n++] = new byte[]{a, b, c, d};
+
+        return permutations;
+    }
 }
@@ -0,0 +1,82 @@
+package com.englishapp.api_server.util;
+
+import com.englishapp.api_server.game.domain.GameContentFormat;
+import com.englishapp.api_server.game.domain.MazeCellType;
+import com.englishapp.api_server.game.dto.response.MazeAdventureResponse;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * MazeGenerator가 만든 미로 원본 (1차원 byte 배열, 칸 번호 = row * cols + col)
+ * 응답 DTO(MazeAdventureResponse)로의 변환은 필요할 때 한 번만 수행
+ */
+@Getter
+public class MazeLayout {
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;   // MazeCellType 값 (0: 길, 1: 벽, 2: 시작, 3: 출구)
+    private final int startCell;
+    private final int exitCell;
+    private final int solutionLength;  // 시작 -> 출구 최단 경로 칸 수 (경로 없으면 0)
+    private final List<MazeAdventureResponse.Item> items;
+
+    MazeLayout(int rows, int cols, byte[] cells, int startCell, int exitCell, int solutionLength,
+               List<MazeAdventureResponse.Item> items) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+        this.startCell = startCell;
+        this.exitCell = exitCell;
+        this.solutionLength = solutionLength;
+        this.items = items;
+    }
+
+    public MazeAdventureResponse toResponse() {
+        return toResponse(GameContentFormat.DEFAULT);
+    }
+
+    public MazeAdventureResponse toResponse(GameContentFormat format) {
+
+        MazeAdventureResponse.MazeAdventureResponseBuilder builder = MazeAdventureResponse.builder()
+                .width(cols)
+                .height(rows)
+                .startPosition(new MazeAdventureResponse.Position(startCell / cols, startCell % cols))
+                .items(items);
+
+        return (format == GameContentFormat.COMPACT ? builder.packedGrid(packGrid()) : builder.grid(toGridList()))
+                .build();
+    }
+
+    // 칸 4개를 1바이트로 (상위 비트부터), 마지막 바이트의 남는 비트는 0
+    private String packGrid() {
+
+        byte[] packed = new byte[(cells.length + 3) / 4];
+        for (int i = 0; i < cells.length; i++) {
+            packed[i >>> 2] |= (byte) ((cells[i] & 0b11) << (6 - (i & 3) * 2));
+        }
+        return Base64.getEncoder().encodeToString(packed);
+    }
+
+    private List<List<Integer>> toGridList() {
+
+        // 셀 값은 0 ~ 3 이므로 Integer.valueOf 캐시를 그대로 사용 (박싱 객체 추가 생성 없음)
+        List<List<Integer>> grid = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Integer[] row = new Integer[cols];
+            for (int c = 0; c < cols; c++) {
+                row[c] = Integer.valueOf(cells[r * cols + c]);
+            }
+            grid.add(Arrays.asList(row));
+        }
+        return grid;
+    }
+
+    public boolean isWall(int cell) {
+        return cells[cell] == MazeCellType.WALL.getValue();
+    }
+}
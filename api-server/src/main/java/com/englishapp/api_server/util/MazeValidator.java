@@ -1,12 +1,23 @@
 package com.englishapp.api_server.util;
 
+import com.englishapp.api_server.game.domain.MazeCellType;
 import com.englishapp.api_server.game.domain.MazeItemType;
 import com.englishapp.api_server.game.dto.response.MazeAdventureResponse;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 
+/**
+ * 미로 유효성 검증기
+ * (칸, 열쇠 보유 여부) 상태 공간에서 BFS를 한 번만 수행 - 문(Door)은 열쇠를 가진 상태에서만 통과 가능
+ * 그리드 복사 없이 1차원 배열과 int 배열 큐만 사용하며, 최단 탈출 경로 길이를 난이도 지표로 함께 반환
+ */
 public class MazeValidator {
 
+    private static final byte WALL = (byte) MazeCellType.WALL.getValue();
+    private static final byte EXIT = (byte) MazeCellType.EXIT.getValue();
+
     // 상하좌우 이동 방향 배열 : (row, col)
     private static final int[] DR = {0, 0, 1, -1};
     private static final int[] DC = {1, -1, 0, 0};
@@ -16,126 +27,210 @@ public class MazeValidator {
 
         public boolean isPassable;
         public String message;
+        public int solutionLength;   // 시작 -> 출구 최단 경로 칸 수 (시작/출구 포함, 탈출 불가면 0)
+        public boolean keyRequired;  // 열쇠 없이는 출구에 도달할 수 없는지 (문이 실제로 길을 막는지)
+        public int keyDistance;      // 시작 -> 열쇠 최단 이동 수 (열쇠가 없거나 도달 불가면 -1)
 
         public ValidationResult(boolean isPassable, String message) {
             this.isPassable = isPassable;
             this.message = message;
         }
+
+        public ValidationResult(boolean isPassable, String message, int solutionLength, boolean keyRequired,
+                                int keyDistance) {
+            this.isPassable = isPassable;
+            this.message = message;
+            this.solutionLength = solutionLength;
+            this.keyRequired = keyRequired;
+            this.keyDistance = keyDistance;
+        }
     }
 
     /**
      * 미로 맵의 유효성 검증 (경로 유효성 및 필수 아이템 획득 가능성)
      *
-     * @param response 검증할 미로 데이터 DTO
-     * @return 검증 결과 (통과 여부와 메시지)
+     * @param response 검증할 미로 데이터 DTO (기존 형식/압축 형식 모두 가능)
+     * @return 검증 결과 (통과 여부, 메시지, 최단 경로 길이)
      */
     public static ValidationResult validateMaze(MazeAdventureResponse response) {
+        return validateMaze(response, new Workspace());
+    }
 
-        List<List<Integer>> grid = response.getGrid();
-        List<MazeAdventureResponse.Item> items = response.getItems();
-        int startRow = response.getStartPosition().getRow();
-        int startCol = response.getStartPosition().getCol();
-        int height = response.getHeight();
-        int width = response.getWidth();
-
-        // 1. 요소 확인 (Key, Door, Exit)
-        Optional<MazeAdventureResponse.Item> door = items.stream()
-                .filter(i -> i.getType() == MazeItemType.DOOR)
-                .findFirst();
+    // 생성된 미로 원본 검증 (byte 배열을 그대로 사용, 변환 없음)
+    public static ValidationResult validateLayout(MazeLayout layout) {
+        return validateLayout(layout, new Workspace());
+    }
 
-        Optional<MazeAdventureResponse.Item> key = items.stream()
-                .filter(i -> i.getType() == MazeItemType.KEY)
-                .findFirst();
+    /**
+     * 여러 미로 일괄 검증 (미리 생성 작업용)
+     * BFS 큐/방문 배열을 한 번만 할당해 모든 미로에서 재사용
+     */
+    public static List<ValidationResult> validateAll(List<MazeAdventureResponse> responses) {
 
-        // 2. BFS 탐색 실행 (Start -> Key -> Door -> Exit 경로 확인)
-        // 2-1. Start -> Key 탐색
-        if (key.isPresent()) {
+        Workspace workspace = new Workspace();
+        List<ValidationResult> results = new ArrayList<>(responses.size());
 
-            if (!canReach(grid, startRow, startCol, key.get().getRow(), key.get().getCol(), height, width)) {
-                return new ValidationResult(false, "시작점에서 열쇠에 도달 불가");
-            }
+        for (MazeAdventureResponse response : responses) {
+            results.add(validateMaze(response, workspace));
         }
+        return results;
+    }
 
-        // 2-2. Key/Start -> Door/Exit 탐색 (맵에 Door가 있다면, Door 위치를 '길(0)'로 간주하고 탐색)
-        if (door.isPresent()) {
-
-            // Door 위치를 '길(0)'로 임시 변경 (열쇠를 가졌을 때)
-            List<List<Integer>> tempGrid = deepCopyGrid(grid);
-            tempGrid.get(door.get().getRow()).set(door.get().getCol(), 0);
-
-            // 최종 출구(3)의 좌표 찾기
-            int exitRow = -1, exitCol = -1;
-            for (int r = 0; r < height; r++) {
-                for (int c = 0; c < width; c++) {
-                    if (grid.get(r).get(c) == 3) {
-                        exitRow = r;
-                        exitCol = c;
-                        break;
-                    }
-                }
-            }
+    /* 헬퍼 메소드 */
+    private static ValidationResult validateMaze(MazeAdventureResponse response, Workspace workspace) {
 
-            // Start에서 Exit에 도달 가능한지 체크
-            if (exitRow == -1 || !canReach(tempGrid, startRow, startCol, exitRow, exitCol, height, width)) {
-                return new ValidationResult(false, "열쇠가 있어도 경로 막힘");
-            }
+        int rows = response.getHeight();
+        int cols = response.getWidth();
+        int startCell = response.getStartPosition().getRow() * cols + response.getStartPosition().getCol();
 
-        } else {
-            // Door가 없다면, Start에서 Exit까지 갈 수 있는지 체크
-            // 생략해도됨(2-2에서 이미 포함)
-        }
+        // 박싱된 그리드/압축 문자열 -> 1차원 byte 배열 (출구 위치도 같은 순회에서 찾음)
+        byte[] cells = workspace.cells(rows * cols);
+        int exitCell = response.getGrid() != null
+                ? flatten(response.getGrid(), cells, cols)
+                : unpack(response.getPackedGrid(), cells, rows * cols);
 
-        // 3. 모든 필수 요소를 고려했을 때 통과
-        return new ValidationResult(true, "미로 유효성 검증 성공");
+        return search(cells, rows, cols, startCell, exitCell, response.getItems(), workspace);
     }
 
-    /**
-     * BFS 알고리즘을 이용해 출발점에서 목표점까지 도달 가능한지 확인하는 헬퍼 함수
-     */
-    private static boolean canReach(
-            List<List<Integer>> grid, int startR, int startC, int goalR, int goalC, int H, int W) {
+    private static ValidationResult validateLayout(MazeLayout layout, Workspace workspace) {
+        return search(layout.getCells(), layout.getRows(), layout.getCols(), layout.getStartCell(),
+                layout.getExitCell(), layout.getItems(), workspace);
+    }
+
+    private static ValidationResult search(byte[] cells, int rows, int cols, int startCell, int exitCell,
+                                           List<MazeAdventureResponse.Item> items, Workspace workspace) {
 
-        if (startR == goalR && startC == goalC) return true;
+        if (exitCell < 0) {
+            return new ValidationResult(false, "출구 없음");
+        }
 
-        boolean[][] visited = new boolean[H][W];
-        Queue<int[]> queue = new LinkedList<>();
+        // 1. 요소 확인 (Key, Door) - 첫 번째 것만 사용
+        int keyCell = -1;
+        int doorCell = -1;
+        for (MazeAdventureResponse.Item item : items) {
+            if (item.getType() == MazeItemType.KEY && keyCell < 0) keyCell = item.getRow() * cols + item.getCol();
+            if (item.getType() == MazeItemType.DOOR && doorCell < 0) doorCell = item.getRow() * cols + item.getCol();
+        }
 
-        queue.offer(new int[]{startR, startC});
-        visited[startR][startC] = true;
+        // 2. 상태 = 칸 번호 * 2 + 열쇠 보유(0/1), 거리는 방문 시점에 기록
+        int cellCount = rows * cols;
+        workspace.prepare(cellCount * 2);
+        int[] queue = workspace.queue;
+        int[] dist = workspace.dist;
+        int[] seen = workspace.seen;
+        int stamp = workspace.stamp;
+
+        int startState = startCell * 2 + (startCell == keyCell ? 1 : 0);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startState;
+        seen[startState] = stamp;
+        dist[startState] = 1;
+
+        int keyDistance = startCell == keyCell ? 0 : -1;
+        int exitWithoutKey = 0;  // 열쇠 없이 출구에 도달한 최단 거리 (0 = 도달 불가)
+        int exitWithKey = 0;
+
+        // BFS는 거리 순으로 꺼내므로, 두 상태 모두 출구에 닿았거나 더 볼 상태가 없으면 종료
+        while (head < tail && (exitWithoutKey == 0 || exitWithKey == 0)) {
+            int state = queue[head++];
+            int cell = state >> 1;
+            int hasKey = state & 1;
+
+            if (cell == exitCell) {
+                if (hasKey == 0 && exitWithoutKey == 0) exitWithoutKey = dist[state];
+                if (hasKey == 1 && exitWithKey == 0) exitWithKey = dist[state];
+                continue;
+            }
 
-        while (!queue.isEmpty()) {
-            int[] current = queue.poll();
-            int r = current[0];
-            int c = current[1];
+            int r = cell / cols;
+            int c = cell % cols;
 
             for (int i = 0; i < 4; i++) {
                 int nr = r + DR[i];
                 int nc = c + DC[i];
 
-                // 경계 체크, 방문 여부 체크, 벽(1) 체크
-                if (nr >= 0 && nr < H && nc >= 0 && nc < W && !visited[nr][nc] && grid.get(nr).get(nc) != 1) {
+                // 경계 체크, 벽(1) 체크, 문은 열쇠가 있어야 통과
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = nr * cols + nc;
+                if (cells[next] == WALL || (next == doorCell && hasKey == 0)) continue;
 
-                    if (nr == goalR && nc == goalC) {
-                        return true;  // 목표점 도달
-                    }
+                int nextState = next * 2 + (next == keyCell ? 1 : hasKey);
+                if (seen[nextState] == stamp) continue;
 
-                    visited[nr][nc] = true;
-                    queue.offer(new int[]{nr, nc});
-                }
+                seen[nextState] = stamp;
+                dist[nextState] = dist[state] + 1;
+                queue[tail++] = nextState;
+                if (next == keyCell && keyDistance < 0) keyDistance = dist[nextState] - 1;
             }
         }
 
-        return false;  // 목표점 도달 실패
+        // 3. 결과 판정
+        if (keyCell >= 0 && keyDistance < 0) {
+            return new ValidationResult(false, "시작점에서 열쇠에 도달 불가");
+        }
+        if (exitWithoutKey == 0 && exitWithKey == 0) {
+            return new ValidationResult(false, "열쇠가 있어도 경로 막힘");
+        }
+
+        int solutionLength = exitWithoutKey == 0 ? exitWithKey
+                : exitWithKey == 0 ? exitWithoutKey
+                : Math.min(exitWithoutKey, exitWithKey);
+        boolean keyRequired = doorCell >= 0 && exitWithoutKey == 0;
+
+        return new ValidationResult(true, "미로 유효성 검증 성공", solutionLength, keyRequired, keyDistance);
     }
 
-    // List<List<Integer>> 복사하는 헬퍼 함수
-    private static List<List<Integer>> deepCopyGrid(List<List<Integer>> original) {
+    // List<List<Integer>> -> byte 배열, 출구 칸 번호 반환 (없으면 -1)
+    private static int flatten(List<List<Integer>> grid, byte[] cells, int cols) {
 
-        List<List<Integer>> copy = new ArrayList<>();
-        for (List<Integer> row : original) {
-            copy.add(new ArrayList<>(row));
+        int exitCell = -1;
+        for (int r = 0; r < grid.size(); r++) {
+            List<Integer> row = grid.get(r);
+            for (int c = 0; c < cols; c++) {
+                byte value = row.get(c).byteValue();
+                cells[r * cols + c] = value;
+                if (value == EXIT && exitCell < 0) exitCell = r * cols + c;
+            }
         }
+        return exitCell;
+    }
+
+    // 압축 형식(칸당 2bit, 상위 비트부터) -> byte 배열, 출구 칸 번호 반환 (없으면 -1)
+    private static int unpack(String packedGrid, byte[] cells, int cellCount) {
 
-        return copy;
+        byte[] packed = Base64.getDecoder().decode(packedGrid);
+        int exitCell = -1;
+        for (int i = 0; i < cellCount; i++) {
+            byte value = (byte) ((packed[i >>> 2] >>> (6 - (i & 3) * 2)) & 0b11);
+            cells[i] = value;
+            if (value == EXIT && exitCell < 0) exitCell = i;
+        }
+        return exitCell;
+    }
+
+    // BFS 작업 배열 묶음 - 방문 여부는 stamp 비교로 판단하므로 미로마다 배열을 지우지 않음
+    private static final class Workspace {
+
+        private byte[] cells = new byte[0];
+        private int[] queue = new int[0];
+        private int[] dist = new int[0];
+        private int[] seen = new int[0];
+        private int stamp = 0;
+
+        byte[] cells(int size) {
+            if (cells.length < size) cells = new byte[size];
+            return cells;
+        }
+
+        void prepare(int stateCount) {
+            if (queue.length < stateCount) {
+                queue = new int[stateCount];
+                dist = new int[stateCount];
+                seen = new int[stateCount];
+                stamp = 0;
+            }
+            stamp++;
+        }
     }
 }
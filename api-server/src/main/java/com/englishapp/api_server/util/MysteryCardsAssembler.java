@@ -0,0 +1,62 @@
+package com.englishapp.api_server.util;
+
+import com.englishapp.api_server.entity.WordDetail;
+import com.englishapp.api_server.game.dto.response.MysteryCardsDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * MysteryCards 카드 묶음 -> 응답 DTO 변환 (보기 구성 + 섞기)
+ * DB/카탈로그와 무관한 순수 로직이라 벤치마크에서도 그대로 호출함
+ */
+public class MysteryCardsAssembler {
+
+    /**
+     * @param rounds 문제별 카드 묶음 ([0]: 정답, [1~]: 오답)
+     * @param random 보기 섞기에 사용할 난수 생성기
+     * @return MysteryCardsDto 목록 (GameContentResponse.items 용)
+     */
+    public static List<Object> assemble(List<WordDetail[]> rounds, Random random) {
+
+        List<Object> resultList = new ArrayList<>(rounds.size());
+
+        for (WordDetail[] cards : rounds) {
+            WordDetail question = cards[0];
+
+            // A. 보기 리스트 구성 (정답 1개 + 오답 3개)
+            List<MysteryCardsDto.CardOption> options = new ArrayList<>(cards.length);
+            options.add(toCardOption(question, true));
+
+            for (int d = 1; d < cards.length; d++) {
+                options.add(toCardOption(cards[d], false));
+            }
+
+            // 보기 섞기
+            Collections.shuffle(options, random);
+
+            // B. DTO 생성 및 추가
+            resultList.add(MysteryCardsDto.builder()
+                    .questionId(question.getWord().getId())
+                    .sentence(question.getDescription())
+                    .answerWord(question.getWord().getContent())
+                    .answerImageUrl(question.getImageUrl())
+                    .options(options)
+                    .build());
+        }
+        return resultList;
+    }
+
+    /* 헬퍼 메소드 */
+    private static MysteryCardsDto.CardOption toCardOption(WordDetail detail, boolean isAnswer) {
+
+        return MysteryCardsDto.CardOption.builder()
+                .wordId(detail.getWord().getId())
+                .word(detail.getWord().getContent())
+                .imageUrl(detail.getImageUrl())
+                .isAnswer(isAnswer)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.englishapp.api_server.util;
+
+import java.util.Random;
+
+/**
+ * 0 ~ n-1 범위의 인덱스를 중복 없이 무작위로 뽑는 부분 Fisher–Yates 셔플
+ * 실제 배열을 복사하지 않고, 교환된 위치만 작은 int 해시맵에 기록하므로 k개 추출 비용은 O(k)
+ */
+public class RandomSampler {
+
+    private final int n;
+    private final Random random;
+
+    // 교환 기록용 open addressing 맵 (key: 위치, value: 그 위치에 있는 값)
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mapSize;
+
+    private int drawn;  // 지금까지 뽑은 수 (= 셔플이 진행된 앞부분 길이)
+
+    public RandomSampler(int n, Random random) {
+        this(n, random, 16);
+    }
+
+    public RandomSampler(int n, Random random, int expectedDraws) {
+        this.n = n;
+        this.random = random;
+
+        int capacity = Integer.highestOneBit(Math.max(16, expectedDraws * 4) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+    }
+
+    /**
+     * n개 중 k개를 중복 없이 추출 (k가 n보다 크면 n개만 반환)
+     */
+    public static int[] sample(int n, int k, Random random) {
+
+        int count = Math.min(n, k);
+        RandomSampler sampler = new RandomSampler(n, random, count);
+        int[] result = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = sampler.next();
+        }
+        return result;
+    }
+
+    public boolean hasNext() {
+        return drawn < n;
+    }
+
+    public int remaining() {
+        return n - drawn;
+    }
+
+    // 다음 인덱스 하나 추출 (남은 구간 [drawn, n)에서 하나를 골라 drawn 위치와 교환)
+    public int next() {
+        if (drawn >= n) {
+            throw new IllegalStateException("더 이상 뽑을 인덱스가 없음");
+        }
+
+        int j = drawn + random.nextInt(n - drawn);
+        int picked = get(j);
+        put(j, get(drawn));
+        drawn++;
+
+        return picked;
+    }
+
+    /* 헬퍼 메소드 */
+    private int get(int pos) {
+        int mask = keys.length - 1;
+        int slot = mix(pos) & mask;
+
+        while (used[slot]) {
+            if (keys[slot] == pos) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return pos;  // 교환된 적 없는 위치는 자기 자신
+    }
+
+    private void put(int pos, int value) {
+        if ((mapSize + 1) * 2 > keys.length) {
+            grow();
+        }
+
+        int mask = keys.length - 1;
+        int slot = mix(pos) & mask;
+
+        while (used[slot]) {
+            if (keys[slot] == pos) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        used[slot] = true;
+        keys[slot] = pos;
+        values[slot] = value;
+        mapSize++;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        mapSize = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private static int mix(int x) {
+        x *= 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+}
@@ -37,8 +37,8 @@ public class UrlBuilder {
     /**
      * DB에 저장된 오디오 상대 경로를 완전한 URL로 변환
      *
-     * @param dbPath DB에 저장된 경로 (예: "audios/파일명.mp3")
-     * @return 완전한 URL (예: "http://localhost:8080/api/audios/파일명.mp3")
+     * @param dbPath DB에 저장된 경로 (예: "audio/words/파일명.mp3")
+     * @return 완전한 URL (예: "http://localhost:8080/api/audio/words/파일명.mp3", MediaController가 제공)
      */
     public static String buildAudioUrl(String dbPath) {
         if (dbPath == null || dbPath.isBlank()) {
@@ -7,101 +7,84 @@ import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 크로스워드 퍼즐 생성기
+ * 상태(Random 포함)를 필드로 두지 않으므로 여러 스레드에서 동시에 호출해도 안전함
+ */
 @Component
 public class WordPuzzleGenerator {
 
     private static final String ACROSS = "ACROSS";
     private static final String DOWN = "DOWN";
-    private final Random random = new Random();
+    private static final int DIR_ACROSS = 0;
+    private static final int DIR_DOWN = 1;
+    private static final String[] DIRECTION_NAMES = {ACROSS, DOWN};
 
     public GeneratedPuzzle generate(int gridSize, List<WordDetail> wordCandidates) {
+        return generate(gridSize, wordCandidates, ThreadLocalRandom.current());
+    }
 
-        // 1. 긴 단어부터 배치하여 성공률 높이기
-        wordCandidates.sort((a, b) ->
+    /**
+     * 퍼즐 생성 (시도마다 별도의 Random을 넘기면 병렬 시도 간 간섭 없음)
+     *
+     * @param gridSize       그리드 한 변의 크기
+     * @param wordCandidates 후보 단어 (원본 리스트는 변경하지 않음, 길이가 같은 단어끼리는 넘어온 순서 유지)
+     * @param random         배치 위치 선택과 빈칸 채우기에 사용할 난수 생성기
+     */
+    public GeneratedPuzzle generate(int gridSize, List<WordDetail> wordCandidates, Random random) {
+
+        // 1. 긴 단어부터 배치하여 성공률 높이기 (호출 측 리스트를 건드리지 않도록 복사 후 정렬)
+        List<WordDetail> words = new ArrayList<>(wordCandidates);
+        words.sort((a, b) ->
                 b.getWord().getContent().length() - a.getWord().getContent().length());
 
-        char[][] grid = new char[gridSize][gridSize];
+        PuzzleBoard board = new PuzzleBoard(gridSize);
         List<WordPuzzleDto.CrossWordDto> placeWords = new ArrayList<>();
 
-        // 그리드 초기화 (빈 공간은 0 또는 공백)
-        for (int i = 0; i < gridSize; i++) {
-            for (int j = 0; j < gridSize; j++) {
-                grid[i][j] = '\0';
-            }
-        }
-
         // 2. 첫 번째 단어를 정중앙에 가로로 배치
-        if (!wordCandidates.isEmpty()) {
-            WordDetail first = wordCandidates.get(0);
+        if (!words.isEmpty()) {
+            WordDetail first = words.get(0);
             String wordStr = first.getWord().getContent().toUpperCase();
             int startRow = gridSize / 2;
             int startCol = (gridSize - wordStr.length()) / 2;
 
             // 범위 안전 체크 후 배치
             if (startCol >= 0) {
-                placeWordOnGrid(grid, wordStr, startRow, startCol, ACROSS);
+                board.place(wordStr, startRow, startCol, DIR_ACROSS);
                 placeWords.add(createDto(first, startRow, startCol, ACROSS));
             }
         }
 
-        // 3. 나머지 단어 배치 시도 (백트래킹 방식)
-        for (int i = 1; i < wordCandidates.size(); i++) {
-            WordDetail candidate = wordCandidates.get(i);
+        // 3. 나머지 단어 배치 시도 (글자 위치 색인으로 교차 후보를 바로 찾음)
+        for (int i = 1; i < words.size(); i++) {
+            WordDetail candidate = words.get(i);
             String currentWord = candidate.getWord().getContent().toUpperCase();
-            boolean placed = false;
-
-            // 이미 배치된 단어들을 섞어서 순회 (매번 같은 패턴 방지)
-            List<WordPuzzleDto.CrossWordDto> existingWords = new ArrayList<>(placeWords);
-            Collections.shuffle(existingWords);
-
-            for (WordPuzzleDto.CrossWordDto existing : existingWords) {
-                if (placed) break;
-                String existingWord = existing.getWord();
-
-                // 두 단어 간 교차 가능한 알파벳 찾기
-                for (int j = 0; j < currentWord.length(); j++) {
-                    char charToMatch = currentWord.charAt(j);
-
-                    for (int k = 0; k < existingWord.length(); k++) {
-                        if (existingWord.charAt(k) == charToMatch) {  // 교차점 발견
-
-                            // 방향 전환
-                            String direction = existing.getDirection().equals(ACROSS) ? DOWN : ACROSS;
-
-                            // 시작 좌표 계산
-                            int row = existing.getDirection().equals(ACROSS)
-                                    ? existing.getStartRow() - j
-                                    : existing.getStartRow() + k;
-                            int col = existing.getDirection().equals(ACROSS)
-                                    ? existing.getStartCol() + k
-                                    : existing.getStartCol() - j;
-
-                            // 배치 가능 여부 체크
-                            if (canPlace(grid, currentWord, row, col, direction)) {
-                                placeWordOnGrid(grid, currentWord, row, col, direction);
-                                placeWords.add(createDto(candidate, row, col, direction));
-
-                                placed = true;
-                                break;
-                            }
-                        }
-                    }
-                    if (placed) break;
-                }
-            }
+
+            int placement = board.findPlacement(currentWord, random);
+            if (placement < 0) continue;
+
+            int startCell = placement >>> 1;
+            int direction = placement & 1;
+            int row = startCell / gridSize;
+            int col = startCell % gridSize;
+
+            board.place(currentWord, row, col, direction);
+            placeWords.add(createDto(candidate, row, col, DIRECTION_NAMES[direction]));
         }
         // 빈칸 랜덤 채우기
-        fillEmptySpacesWithRandomChars(grid);
+        int filledCells = board.filledCells;
+        fillEmptySpacesWithRandomChars(board.grid, random);
 
-        return new GeneratedPuzzle(grid, placeWords);
+        return new GeneratedPuzzle(board.grid, placeWords, filledCells);
     }
 
     /* 헬퍼 메소드 */
-    private void fillEmptySpacesWithRandomChars(char[][] grid) {
+    private void fillEmptySpacesWithRandomChars(char[][] grid, Random random) {
         for (int i = 0; i < grid.length; i++) {
             for (int j = 0; j < grid[i].length; j++) {
                 if (grid[i][j] == '\0') {
@@ -112,91 +95,168 @@ public class WordPuzzleGenerator {
         }
     }
 
-    private boolean canPlace(char[][] grid, String word, int row, int col, String direction) {
-        int len = word.length();
-        int size = grid.length;
+    private WordPuzzleDto.CrossWordDto createDto(WordDetail wd, int r, int c, String dir) {
 
-        // 1. 범위 체크
-        if (direction.equals(ACROSS)) {
-            if (col < 0 || col + len > size || row < 0 || row >= size) return false;
-        } else {
-            if (row < 0 || row + len > size || col < 0 || col >= size) return false;
-        }
+        return WordPuzzleDto.CrossWordDto.builder()
+                .wordId(wd.getWord().getId())
+                .word(wd.getWord().getContent().toUpperCase())
+                .clue(wd.getDescription())
+                .startRow(r)
+                .startCol(c)
+                .direction(dir)
+                .build();
+    }
 
-        // 2. 글자 충돌 및 인접 체크
-        for (int i = 0; i < len; i++) {
-            int r = direction.equals(ACROSS) ? row : row + i;
-            int c = direction.equals(ACROSS) ? col + i : col;
-            char cell = grid[r][c];
-            char charToPlace = word.charAt(i);
+    // 결과 반환용 Inner Class
+    @Getter
+    @AllArgsConstructor
+    public static class GeneratedPuzzle {
 
-            // [중요] 이미 글자가 있는데, 내가 놓으려는 글자와 다르면 절대 불가 (충돌)
-            if (cell != '\0' && cell != charToPlace) return false;
+        private char[][] grid;
+        private List<WordPuzzleDto.CrossWordDto> placeWords;
+        private int filledCells;  // 단어가 차지한 칸 수 (랜덤 문자로 채운 칸 제외)
+    }
 
-            // [중요] 빈칸인 경우에만 주변 인접 체크 (글자가 붙어버리는 것 방지)
-            // 교차점(cell == charToPlace)인 경우는 인접 체크를 하지 않음 (당연히 붙어있으므로)
-            if (cell == '\0') {
-                if (hasAdjacentLetters(grid, r, c, direction)) return false;
+    /**
+     * 퍼즐 1장 생성 동안만 쓰는 배치 상태
+     * - 방향별 점유 비트보드 (칸 번호 = row * size + col)
+     * - 글자별 배치 칸 색인 (A~Z -> (칸 번호 << 1 | 방향) 목록)
+     */
+    private static class PuzzleBoard {
+
+        private final int size;
+        private final char[][] grid;
+        private final long[][] occupied;   // [방향][비트보드]
+        private final int[][] letterCells = new int[26][];
+        private final int[] letterCounts = new int[26];
+        private int[] options = new int[64];  // 교차 후보 버퍼 (재사용)
+        private int filledCells;
+
+        PuzzleBoard(int size) {
+            this.size = size;
+            this.grid = new char[size][size];  // 빈 칸은 '\0'
+            this.occupied = new long[2][(size * size + 63) >>> 6];
+
+            for (int i = 0; i < 26; i++) {
+                letterCells[i] = new int[8];
             }
         }
 
-        // 3. 단어 앞뒤가 비어있는지 체크 (Apple뒤에 바로 붙어서 Banana가 오면 안됨)
-        int startBeforeR = direction.equals(ACROSS) ? row : row - 1;
-        int startBeforeC = direction.equals(ACROSS) ? col - 1 : col;
-        if (isValid(size, startBeforeR, startBeforeC) && grid[startBeforeR][startBeforeC] != '\0') return false;
+        /**
+         * 이미 배치된 글자와 교차하는 위치 중 배치 가능한 곳을 무작위로 하나 선택
+         *
+         * @return (시작 칸 번호 << 1 | 방향), 배치할 곳이 없으면 -1
+         */
+        int findPlacement(String word, Random random) {
+
+            // 1. 색인에서 같은 글자를 가진 칸을 찾아 교차 후보 수집
+            int count = 0;
+            for (int j = 0; j < word.length(); j++) {
+                int letter = word.charAt(j) - 'A';
+                if (letter < 0 || letter >= 26) continue;
+
+                int[] cells = letterCells[letter];
+                for (int k = 0; k < letterCounts[letter]; k++) {
+                    int cell = cells[k] >>> 1;
+
+                    // 이미 가로/세로가 교차된 칸은 더 이상 교차 불가
+                    if (isSet(occupied[DIR_ACROSS], cell) && isSet(occupied[DIR_DOWN], cell)) continue;
+
+                    int direction = 1 - (cells[k] & 1);  // 기존 단어와 수직 방향
+                    int row = cell / size - (direction == DIR_DOWN ? j : 0);
+                    int col = cell % size - (direction == DIR_ACROSS ? j : 0);
+                    if (row < 0 || col < 0) continue;
+
+                    if (count == options.length) options = Arrays.copyOf(options, count * 2);
+                    options[count++] = ((row * size + col) << 1) | direction;
+                }
+            }
 
-        int endAfterR = direction.equals(ACROSS) ? row : row + len;
-        int endAfterC = direction.equals(ACROSS) ? col + len : col;
-        if (isValid(size, endAfterR, endAfterC) && grid[endAfterR][endAfterC] != '\0') return false;
+            // 2. 후보를 무작위 순서로 꺼내며 배치 가능 여부 확인 (매번 같은 패턴 방지)
+            while (count > 0) {
+                int pick = random.nextInt(count);
+                int option = options[pick];
+                options[pick] = options[--count];
 
-        return true;
-    }
+                int startCell = option >>> 1;
+                if (canPlace(word, startCell / size, startCell % size, option & 1)) {
+                    return option;
+                }
+            }
+            return -1;
+        }
 
-    private boolean hasAdjacentLetters(char[][] grid, int r, int c, String direction) {
+        boolean canPlace(String word, int row, int col, int direction) {
+            int len = word.length();
+            int dr = direction == DIR_DOWN ? 1 : 0;
+            int dc = 1 - dr;
+
+            // 1. 범위 체크
+            if (row < 0 || col < 0 || row + dr * (len - 1) >= size || col + dc * (len - 1) >= size) return false;
+
+            // 2. 단어 앞뒤가 비어있는지 체크 (Apple뒤에 바로 붙어서 Banana가 오면 안됨)
+            if (isOccupied(row - dr, col - dc)) return false;
+            if (isOccupied(row + dr * len, col + dc * len)) return false;
+
+            // 3. 글자 충돌 및 인접 체크
+            long[] sameDirection = occupied[direction];
+            for (int i = 0; i < len; i++) {
+                int r = row + dr * i;
+                int c = col + dc * i;
+                char cell = grid[r][c];
+
+                if (cell != '\0') {
+                    // 이미 글자가 있는데, 내가 놓으려는 글자와 다르거나 같은 방향 단어의 칸이면 불가 (충돌/겹침)
+                    if (cell != word.charAt(i) || isSet(sameDirection, r * size + c)) return false;
+                    continue;
+                }
 
-        if (direction.equals(ACROSS)) {
-            // 가로 배치 중이면 위/아래 확인
-            if (isValid(grid.length, r - 1, c) && grid[r - 1][c] != '\0') return true;
-            if (isValid(grid.length, r + 1, c) && grid[r + 1][c] != '\0') return true;
-        } else {
-            // 세로 배치 중이면 좌/우 확인
-            if (isValid(grid.length, r, c - 1) && grid[r][c - 1] != '\0') return true;
-            if (isValid(grid.length, r, c + 1) && grid[r][c + 1] != '\0') return true;
+                // 빈칸인 경우에만 수직 방향 인접 체크 (글자가 붙어버리는 것 방지)
+                if (isOccupied(r - dc, c - dr) || isOccupied(r + dc, c + dr)) return false;
+            }
+            return true;
         }
-        return false;
-    }
 
-    private boolean isValid(int size, int r, int c) {
+        void place(String word, int row, int col, int direction) {
+            int dr = direction == DIR_DOWN ? 1 : 0;
+            int dc = 1 - dr;
 
-        return r >= 0 && r < size && c >= 0 && c < size;
-    }
+            for (int i = 0; i < word.length(); i++) {
+                int r = row + dr * i;
+                int c = col + dc * i;
+                int cell = r * size + c;
+                boolean isCrossing = grid[r][c] != '\0';
 
-    private void placeWordOnGrid(char[][] grid, String word, int r, int c, String dir) {
+                grid[r][c] = word.charAt(i);
+                occupied[direction][cell >>> 6] |= 1L << cell;
 
-        for (int i = 0; i < word.length(); i++) {
-            if (dir.equals(ACROSS)) grid[r][c + i] = word.charAt(i);
-            else grid[r + i][c] = word.charAt(i);
+                // 교차점은 양방향이 모두 차므로 색인에 넣지 않음
+                if (!isCrossing) {
+                    addLetterCell(word.charAt(i), (cell << 1) | direction);
+                    filledCells++;
+                }
+            }
         }
-    }
 
-    private WordPuzzleDto.CrossWordDto createDto(WordDetail wd, int r, int c, String dir) {
+        private void addLetterCell(char ch, int entry) {
+            int letter = ch - 'A';
+            if (letter < 0 || letter >= 26) return;
 
-        return WordPuzzleDto.CrossWordDto.builder()
-                .wordId(wd.getWord().getId())
-                .word(wd.getWord().getContent().toUpperCase())
-                .clue(wd.getDescription())
-                .startRow(r)
-                .startCol(c)
-                .direction(dir)
-                .build();
-    }
+            if (letterCounts[letter] == letterCells[letter].length) {
+                letterCells[letter] = Arrays.copyOf(letterCells[letter], letterCounts[letter] * 2);
+            }
+            letterCells[letter][letterCounts[letter]++] = entry;
+        }
 
-    // 결과 반환용 Inner Class
-    @Getter
-    @AllArgsConstructor
-    public static class GeneratedPuzzle {
+        private boolean isOccupied(int r, int c) {
+            if (r < 0 || r >= size || c < 0 || c >= size) return false;
 
-        private char[][] grid;
-        private List<WordPuzzleDto.CrossWordDto> placeWords;
+            int cell = r * size + c;
+            return isSet(occupied[DIR_ACROSS], cell) || isSet(occupied[DIR_DOWN], cell);
+        }
+
+        private static boolean isSet(long[] board, int cell) {
+            return (board[cell >>> 6] & (1L << cell)) != 0;
+        }
     }
 }
@@ -0,0 +1,203 @@
+package com.englishapp.api_server.batch;
+
+import com.englishapp.api_server.domain.AudibleContent;
+import com.englishapp.api_server.service.FileStorageService;
+import com.englishapp.api_server.service.GoogleTtsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AudioSynthesisPipelineTest {
+
+	private static final int CONCURRENCY = 4;
+	private static final int QUEUE_CAPACITY = 2;
+	private static final int CHUNK_SIZE = 7;
+
+	@Test
+	void boundsConcurrencyAndUpdatesEveryIdInChunks() throws InterruptedException {
+		SleepingTts tts = new SleepingTts(20);
+		AudioSynthesisPipeline pipeline = new AudioSynthesisPipeline(
+				tts, new StubStorage(false), CONCURRENCY, QUEUE_CAPACITY, CHUNK_SIZE);
+
+		List<Content> contents = contents(50);
+		List<List<AudioSynthesisPipeline.AudioUrlUpdate>> chunks = new CopyOnWriteArrayList<>();
+
+		AudioSynthesisPipeline.Result result = assertTimeoutPreemptively(Duration.ofSeconds(30),
+				() -> pipeline.run(contents, "audio/words", new ConcurrentHashMap<>(), chunks::add));
+
+		assertTrue(tts.maxInFlight.get() <= CONCURRENCY, "동시 TTS 호출 수: " + tts.maxInFlight.get());
+		assertEquals(contents.size(), tts.calls.get());
+
+		Set<Long> updatedIds = ConcurrentHashMap.newKeySet();
+		for (List<AudioSynthesisPipeline.AudioUrlUpdate> chunk : chunks) {
+			assertTrue(chunk.size() <= CHUNK_SIZE, "청크 크기: " + chunk.size());
+			chunk.forEach(update -> updatedIds.add(update.getId()));
+		}
+		for (Content content : contents) {
+			assertTrue(updatedIds.contains(content.getId()), "갱신 누락: " + content.getId());
+		}
+		assertEquals(contents.size(), result.getUpdated());
+		assertEquals(0, result.getFailed());
+	}
+
+	@Test
+	void failsInsteadOfHangingWhenWriterDies() {
+		AudioSynthesisPipeline pipeline = new AudioSynthesisPipeline(
+				new SleepingTts(5), new StubStorage(true), CONCURRENCY, QUEUE_CAPACITY, CHUNK_SIZE);
+
+		List<Content> contents = contents(50);
+		Map<String, CompletableFuture<String>> knownUrls = new ConcurrentHashMap<>();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () ->
+				assertThrows(RuntimeException.class, () -> pipeline.run(contents, "audio/words", knownUrls, chunk -> {})));
+	}
+
+	@Test
+	void concurrentRunsSynthesizeEachTextOnce() throws Exception {
+		SleepingTts tts = new SleepingTts(20);
+		AudioSynthesisPipeline pipeline = new AudioSynthesisPipeline(
+				tts, new StubStorage(false), CONCURRENCY, QUEUE_CAPACITY, CHUNK_SIZE);
+
+		// 두 청크가 같은 텍스트를 가진 다른 행들을 동시에 처리
+		List<Content> first = contents(30);
+		List<Content> second = new ArrayList<>();
+		for (Content content : first) {
+			second.add(new Content(content.getId() + 1000, content.getContent()));
+		}
+
+		Map<String, CompletableFuture<String>> knownUrls = new ConcurrentHashMap<>();
+		Set<Long> updatedIds = ConcurrentHashMap.newKeySet();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			CompletableFuture<AudioSynthesisPipeline.Result> a = CompletableFuture.supplyAsync(() -> run(pipeline, first, knownUrls, updatedIds));
+			CompletableFuture<AudioSynthesisPipeline.Result> b = CompletableFuture.supplyAsync(() -> run(pipeline, second, knownUrls, updatedIds));
+			assertEquals(0, a.get().getFailed() + b.get().getFailed());
+		});
+
+		assertEquals(first.size(), tts.calls.get());
+		assertEquals(first.size() + second.size(), updatedIds.size());
+	}
+
+	private static AudioSynthesisPipeline.Result run(AudioSynthesisPipeline pipeline, List<Content> contents,
+			Map<String, CompletableFuture<String>> knownUrls, Set<Long> updatedIds) {
+		try {
+			return pipeline.run(contents, "audio/words", knownUrls,
+					chunk -> chunk.forEach(update -> updatedIds.add(update.getId())));
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static List<Content> contents(int count) {
+		List<Content> contents = new ArrayList<>(count);
+		for (long id = 1; id <= count; id++) {
+			contents.add(new Content(id, "sentence " + id));
+		}
+		return contents;
+	}
+
+	private static class Content implements AudibleContent {
+
+		private final Long id;
+		private final String content;
+
+		Content(Long id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getContent() {
+			return content;
+		}
+
+		@Override
+		public void updateAudioUrl(String audioUrl) {
+		}
+	}
+
+	// 호출마다 잠깐 멈추고, 동시에 몇 개가 실행 중인지 기록
+	private static class SleepingTts implements GoogleTtsService {
+
+		private final long latencyMs;
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		private final AtomicInteger calls = new AtomicInteger();
+
+		SleepingTts(long latencyMs) {
+			this.latencyMs = latencyMs;
+		}
+
+		@Override
+		public byte[] synthesizeText(String text) {
+			calls.incrementAndGet();
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(latencyMs);
+				return text.getBytes();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		}
+
+		@Override
+		public String voiceKey() {
+			return "test";
+		}
+	}
+
+	// 저장 없이 경로만 돌려줌 (dying이면 저장 스레드를 죽이는 Error를 던짐)
+	private static class StubStorage implements FileStorageService {
+
+		private final boolean dying;
+
+		StubStorage(boolean dying) {
+			this.dying = dying;
+		}
+
+		@Override
+		public String storeFile(MultipartFile file, String subPath) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String storeFile(byte[] data, String fileName, String subPath) {
+			if (dying) throw new OutOfMemoryError("test");
+			return subPath + "/" + fileName;
+		}
+
+		@Override
+		public String storeFile(InputStream in, String fileName, String subPath) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String storeFile(ReadableByteChannel source, String fileName, String subPath) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
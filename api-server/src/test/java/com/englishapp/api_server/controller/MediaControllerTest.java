@@ -0,0 +1,38 @@
+package com.englishapp.api_server.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MediaControllerTest {
+
+	private static final long LENGTH = 100;
+
+	@Test
+	void ignoresInvalidRange() {
+		assertNull(MediaController.parseRange("bytes=5-3", LENGTH));
+		assertNull(MediaController.parseRange("bytes=-", LENGTH));
+		assertNull(MediaController.parseRange("bytes=0-1,5-6", LENGTH));
+		assertNull(MediaController.parseRange("items=0-1", LENGTH));
+		assertNull(MediaController.parseRange("bytes=99999999999999999999-", LENGTH));
+	}
+
+	@Test
+	void rejectsUnsatisfiableRange() {
+		assertSame(MediaController.UNSATISFIABLE, MediaController.parseRange("bytes=-0", LENGTH));
+		assertSame(MediaController.UNSATISFIABLE, MediaController.parseRange("bytes=" + LENGTH + "-", LENGTH));
+		assertSame(MediaController.UNSATISFIABLE, MediaController.parseRange("bytes=" + LENGTH + "-200", LENGTH));
+		assertSame(MediaController.UNSATISFIABLE, MediaController.parseRange("bytes=-10", 0));
+	}
+
+	@Test
+	void clampsRangeToFile() {
+		assertArrayEquals(new long[]{0, 99}, MediaController.parseRange("bytes=-500", LENGTH));
+		assertArrayEquals(new long[]{90, 99}, MediaController.parseRange("bytes=-10", LENGTH));
+		assertArrayEquals(new long[]{50, 99}, MediaController.parseRange("bytes=50-500", LENGTH));
+		assertArrayEquals(new long[]{50, 99}, MediaController.parseRange("bytes=50-", LENGTH));
+		assertArrayEquals(new long[]{5, 5}, MediaController.parseRange("bytes=5-5", LENGTH));
+	}
+}
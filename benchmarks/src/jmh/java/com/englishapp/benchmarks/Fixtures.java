@@ -0,0 +1,107 @@
+package com.englishapp.benchmarks;
+
+import com.englishapp.api_server.domain.EnglishType;
+import com.englishapp.api_server.entity.Word;
+import com.englishapp.api_server.entity.WordDetail;
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.domain.GameName;
+import com.englishapp.api_server.game.domain.LevelSettings;
+import com.englishapp.api_server.game.service.impl.CrosswordServiceImpl;
+import com.englishapp.api_server.game.service.impl.MazeServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 (DB 없이 WordDetail 생성)
+ * 실제 단어와 비슷한 교차 빈도가 나오도록 영어 글자 빈도 분포로 단어를 만들고, 시드를 고정해 매 실행 동일한 입력 사용
+ */
+final class Fixtures {
+
+    static final long SEED = 20240601L;
+
+    // 영어 글자 빈도 (A ~ Z, 대략적인 1/1000 단위)
+    private static final int[] LETTER_WEIGHTS = {
+            82, 15, 28, 43, 127, 22, 20, 61, 70, 2, 8, 40, 24,
+            67, 75, 19, 1, 60, 63, 91, 28, 10, 24, 2, 20, 1};
+    private static final int TOTAL_WEIGHT = sum(LETTER_WEIGHTS);
+
+    private Fixtures() {
+    }
+
+    // 크로스워드 후보 단어 (길이 3 ~ maxLength, 공백 없음)
+    static List<WordDetail> crosswordCandidates(int count, int maxLength, Random random) {
+
+        List<WordDetail> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = 3 + random.nextInt(maxLength - 2);
+            details.add(wordDetail(i + 1, randomWord(length, random)));
+        }
+        return details;
+    }
+
+    // MysteryCards 문제별 카드 묶음 ([0]: 정답, [1~3]: 오답)
+    static List<WordDetail[]> mysteryRounds(int questionCount, Random random) {
+
+        List<WordDetail[]> rounds = new ArrayList<>(questionCount);
+        long id = 1;
+        for (int q = 0; q < questionCount; q++) {
+            WordDetail[] cards = new WordDetail[4];
+            for (int c = 0; c < cards.length; c++) {
+                cards[c] = wordDetail(id++, randomWord(4 + random.nextInt(6), random));
+            }
+            rounds.add(cards);
+        }
+        return rounds;
+    }
+
+    // 레벨별 MysteryCards 문제 수 (게임 레지스트리와 같은 기본 설정 사용)
+    static int mysteryQuestionCount(GameLevel level) {
+        return LevelSettings.defaultsOf(GameName.MYSTERYCARDS).get(level).getItemCount();
+    }
+
+    // 레벨별 미로 크기 ({크기, 함정 수}, MazeServiceImpl 설정 사용)
+    static int[] mazeSpec(GameLevel level) {
+        MazeServiceImpl.MazeSpec spec = MazeServiceImpl.MazeSpec.of(level);
+        return new int[]{spec.getSize(), spec.getTrapCount()};
+    }
+
+    // 레벨별 퍼즐 설정 ({grid 크기, 최대 단어 길이, 목표 단어 수}, CrosswordServiceImpl 설정 사용)
+    static int[] crosswordSpec(GameLevel level) {
+        CrosswordServiceImpl.PuzzleSpec spec = CrosswordServiceImpl.PuzzleSpec.of(level);
+        return new int[]{spec.getGridSize(), spec.getMaxLength(), spec.getTargetWordCount()};
+    }
+
+    /* 헬퍼 메소드 */
+    private static WordDetail wordDetail(long id, String content) {
+
+        Word word = new Word(id, null, content, content + " 뜻", EnglishType.WORD, null);
+        return WordDetail.builder()
+                .detailId(id)
+                .word(word)
+                .description("A description sentence for the word " + content + ".")
+                .imageUrl("https://placehold.co/300x200?text=" + content)
+                .build();
+    }
+
+    private static String randomWord(int length, Random random) {
+
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            int pick = random.nextInt(TOTAL_WEIGHT);
+            int letter = 0;
+            while (pick >= LETTER_WEIGHTS[letter]) {
+                pick -= LETTER_WEIGHTS[letter++];
+            }
+            chars[i] = (char) ('a' + letter);
+        }
+        return new String(chars);
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) total += value;
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.englishapp.benchmarks;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.util.MazeGenerator;
+import com.englishapp.api_server.util.MazeLayout;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미로 생성 처리량 - 원본 배열 생성(generateLayout)과 응답 DTO 변환까지 포함한 경우(generate)를 나눠 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MazeGeneratorBenchmark {
+
+    @Param({"FIRST", "SECOND", "THIRD", "FOURTH", "FIFTH"})
+    public GameLevel level;
+
+    private int size;
+    private int trapCount;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        int[] spec = Fixtures.mazeSpec(level);
+        size = spec[0];
+        trapCount = spec[1];
+        random = new Random(Fixtures.SEED);
+    }
+
+    @Benchmark
+    public MazeLayout generateLayout() {
+        return MazeGenerator.generateLayout(size, size, trapCount, random);
+    }
+
+    @Benchmark
+    public Object generateResponse() {
+        return MazeGenerator.generateLayout(size, size, trapCount, random).toResponse();
+    }
+}
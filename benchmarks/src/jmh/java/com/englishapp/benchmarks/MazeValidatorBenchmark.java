@@ -0,0 +1,67 @@
+package com.englishapp.benchmarks;
+
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.game.dto.response.MazeAdventureResponse;
+import com.englishapp.api_server.util.MazeGenerator;
+import com.englishapp.api_server.util.MazeLayout;
+import com.englishapp.api_server.util.MazeValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미로 검증 처리량 - 미리 생성한 미로 묶음을 돌아가며 검증 (생성 비용은 측정에서 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MazeValidatorBenchmark {
+
+    private static final int MAZE_COUNT = 1024;
+
+    @Param({"FIRST", "SECOND", "THIRD", "FOURTH", "FIFTH"})
+    public GameLevel level;
+
+    private MazeLayout[] layouts;
+    private List<MazeAdventureResponse> responses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int[] spec = Fixtures.mazeSpec(level);
+        Random random = new Random(Fixtures.SEED);
+
+        layouts = new MazeLayout[MAZE_COUNT];
+        responses = new ArrayList<>(MAZE_COUNT);
+        for (int i = 0; i < MAZE_COUNT; i++) {
+            layouts[i] = MazeGenerator.generateLayout(spec[0], spec[0], spec[1], random);
+            responses.add(layouts[i].toResponse());
+        }
+    }
+
+    // 풀 채우기 경로 (byte 배열 그대로 검증)
+    @Benchmark
+    public MazeValidator.ValidationResult validateLayout() {
+        MazeLayout layout = layouts[next];
+        next = (next + 1) & (MAZE_COUNT - 1);
+        return MazeValidator.validateLayout(layout);
+    }
+
+    // 응답 DTO 검증 (박싱된 그리드 변환 포함)
+    @Benchmark
+    public MazeValidator.ValidationResult validateMaze() {
+        MazeAdventureResponse response = responses.get(next);
+        next = (next + 1) & (MAZE_COUNT - 1);
+        return MazeValidator.validateMaze(response);
+    }
+
+    // 일괄 검증 (작업 배열 재사용) - 1 op = 미로 MAZE_COUNT개
+    @Benchmark
+    @OperationsPerInvocation(MAZE_COUNT)
+    public List<MazeValidator.ValidationResult> validateAll() {
+        return MazeValidator.validateAll(responses);
+    }
+}
@@ -0,0 +1,36 @@
+package com.englishapp.benchmarks;
+
+import com.englishapp.api_server.entity.WordDetail;
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.util.MysteryCardsAssembler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MysteryCards 보기 구성 처리량 - 카드 묶음 추출 이후의 DTO 변환/섞기 구간만 측정 (DB 조회 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MysteryCardsBenchmark {
+
+    @Param({"FIRST", "SECOND", "THIRD", "FOURTH", "FIFTH"})
+    public GameLevel level;
+
+    private List<WordDetail[]> rounds;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(Fixtures.SEED);
+        rounds = Fixtures.mysteryRounds(Fixtures.mysteryQuestionCount(level), random);
+    }
+
+    @Benchmark
+    public List<Object> assemble() {
+        return MysteryCardsAssembler.assemble(rounds, random);
+    }
+}
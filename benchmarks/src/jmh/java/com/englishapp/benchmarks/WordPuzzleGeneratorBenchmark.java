@@ -0,0 +1,40 @@
+package com.englishapp.benchmarks;
+
+import com.englishapp.api_server.entity.WordDetail;
+import com.englishapp.api_server.game.domain.GameLevel;
+import com.englishapp.api_server.util.WordPuzzleGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크로스워드 생성 처리량 - 레벨별 후보 수(목표 단어 수 x 4)만큼의 합성 단어로 1회 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WordPuzzleGeneratorBenchmark {
+
+    @Param({"FIRST", "SECOND", "THIRD", "FOURTH", "FIFTH"})
+    public GameLevel level;
+
+    private final WordPuzzleGenerator generator = new WordPuzzleGenerator();
+    private int gridSize;
+    private List<WordDetail> candidates;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        int[] spec = Fixtures.crosswordSpec(level);
+        random = new Random(Fixtures.SEED);
+        gridSize = spec[0];
+        candidates = Fixtures.crosswordCandidates(spec[2] * 4, spec[1], random);
+    }
+
+    @Benchmark
+    public WordPuzzleGenerator.GeneratedPuzzle generate() {
+        return generator.generate(gridSize, candidates, random);
+    }
+}